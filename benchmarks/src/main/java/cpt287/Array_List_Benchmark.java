@@ -0,0 +1,109 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Array_List against java.util.ArrayList (contains searches enough keys to scan about 10M elements) */
+public class Array_List_Benchmark extends Batch_Benchmark {
+    private Array_List<Integer> list;  // The keys in an Array_List
+    private ArrayList<Integer> javaList;  // The keys in a java.util.ArrayList
+
+    @Override
+    protected void prepare() { fill(); }
+
+    private void fill() {
+        list = new Array_List<>();
+        javaList = new ArrayList<>();
+        for (Integer key : keys) {
+            list.add(key);
+            javaList.add(key);
+        }
+    }
+
+    /** Refills the lists before each invocation of a benchmark that empties them */
+    @State(Scope.Benchmark)
+    public static class Refill {
+        @Setup(Level.Invocation)
+        public void refill(Array_List_Benchmark b) { b.fill(); }
+    }
+
+    @Benchmark
+    public Array_List<Integer> add() {
+        Array_List<Integer> result = new Array_List<>();
+        for (Integer key : keys) { result.add(key); }
+        return result;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> javaAdd() {
+        ArrayList<Integer> result = new ArrayList<>();
+        for (Integer key : keys) { result.add(key); }
+        return result;
+    }
+
+    @Benchmark
+    public Array_List<Integer> addAll() {
+        Array_List<Integer> result = new Array_List<>();
+        result.addAll(keys);
+        return result;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> javaAddAll() {
+        ArrayList<Integer> result = new ArrayList<>();
+        result.addAll(Arrays.asList(keys));
+        return result;
+    }
+
+    @Benchmark
+    public void get(Blackhole bh) {
+        for (int i = 0; i < n; i++) { bh.consume(list.get(i)); }
+    }
+
+    @Benchmark
+    public void javaGet(Blackhole bh) {
+        for (int i = 0; i < n; i++) { bh.consume(javaList.get(i)); }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) { bh.consume(it.next()); }
+    }
+
+    @Benchmark
+    public void javaIterate(Blackhole bh) {
+        for (Integer value : javaList) { bh.consume(value); }
+    }
+
+    @Benchmark
+    public void contains(Blackhole bh) {
+        for (int i = 0, lookups = Keys.linearLookups(n); i < lookups; i++) { bh.consume(list.contains(keys[i])); }
+    }
+
+    @Benchmark
+    public void javaContains(Blackhole bh) {
+        for (int i = 0, lookups = Keys.linearLookups(n); i < lookups; i++) { bh.consume(javaList.contains(keys[i])); }
+    }
+
+    @Benchmark
+    public void removeLast(Refill refill, Blackhole bh) {
+        while (!list.isEmpty()) { bh.consume(list.remove(list.size() - 1)); }
+    }
+
+    @Benchmark
+    public void javaRemoveLast(Refill refill, Blackhole bh) {
+        while (!javaList.isEmpty()) { bh.consume(javaList.remove(javaList.size() - 1)); }
+    }
+}
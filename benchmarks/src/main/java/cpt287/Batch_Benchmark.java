@@ -0,0 +1,46 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** The settings shared by the single-threaded benchmarks (inherited by JMH)
+    Every benchmark handles a batch of n elements, so its score is the time of the whole batch; divide by n for
+    the time per element. Benchmarks that empty a container get a refilled one before each invocation; run with
+    -prof gc for the allocation rate, keeping in mind that JMH also counts the allocations of that refill.
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public abstract class Batch_Benchmark {
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int n;  // The number of elements
+
+    protected Integer[] keys;  // Shuffled keys 0 .. n - 1
+
+    @Setup(Level.Trial)
+    public final void setUp() {
+        keys = Keys.shuffled(n);
+        prepare();
+    }
+
+    /** Builds the containers read by the benchmarks, after the keys are generated. */
+    protected void prepare() {}
+}
@@ -0,0 +1,79 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/** The settings shared by the multithreaded benchmarks (inherited by JMH)
+    Every invocation is a single operation on a shared container, so the score is the throughput of all threads
+    together. Change the thread counts with -t (or -tg for the producer/consumer groups).
+*/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public abstract class Concurrent_Benchmark {
+    static final int KEYS = 1 << 16;  // The number of distinct keys
+    static final int CAPACITY = 1 << 14;  // The most values a producer leaves in a queue
+
+    protected final Integer[] keys = Keys.shuffled(KEYS);  // Shuffled keys 0 .. KEYS - 1
+
+    /** The position of a thread in the keys (each thread starts at a different key) */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;  // Index of the next key
+        private int count;  // Number of keys taken
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams params) { next = params.getThreadIndex() * 7919 % KEYS; }
+
+        /** Returns the next key of the thread.
+            @param keys: the shared keys
+            @return: the next key
+        */
+        Integer next(Integer[] keys) {
+            count++;
+            Integer key = keys[next];
+            next = (next + 1) % KEYS;
+            return key;
+        }  // Time complexity: O(1)
+
+        /** Returns the number of keys taken so far (used to pick an operation from a fixed mix).
+            @return: the number of keys taken
+        */
+        int count() { return count; }  // Time complexity: O(1)
+    }
+
+    /** The operations of a thread that succeeded (reported by JMH next to the raw score, which also counts the
+        offers to a full queue and the polls of an empty one)
+    */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Transfers {
+        public long offered;  // Values inserted
+        public long polled;  // Values removed
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0;
+            polled = 0;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Concurrent_Priority_Queue against java.util.concurrent.PriorityBlockingQueue and a synchronized
+    Array_Priority_Queue, with two producers and two consumers
+    The queues are unbounded, so a producer skips its offer while the queue holds CAPACITY values or more.
+*/
+public class Concurrent_Priority_Queue_Benchmark extends Concurrent_Benchmark {
+    /** A priority queue shared by the threads of a group */
+    @State(Scope.Group)
+    public static class Queues {
+        Concurrent_Priority_Queue<Integer> relaxed;  // Priority queue with relaxed polls
+        PriorityBlockingQueue<Integer> blocking;  // Priority queue guarded by a lock
+        Array_Priority_Queue<Integer> locked;  // Priority queue guarded by its own monitor
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            relaxed = new Concurrent_Priority_Queue<>();
+            blocking = new PriorityBlockingQueue<>();
+            locked = new Array_Priority_Queue<>();
+        }
+    }
+
+    @Benchmark
+    @Group("relaxed")
+    @GroupThreads(2)
+    public boolean relaxedOffer(Queues queues, Cursor cursor, Transfers transfers) {
+        if (queues.relaxed.size() >= CAPACITY) { return false; }
+        queues.relaxed.offer(cursor.next(keys));
+        transfers.offered++;
+        return true;
+    }
+
+    @Benchmark
+    @Group("relaxed")
+    @GroupThreads(2)
+    public Integer relaxedPoll(Queues queues, Transfers transfers) {
+        Integer value = queues.relaxed.poll();
+        if (value != null) { transfers.polled++; }
+        return value;
+    }
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(2)
+    public boolean blockingOffer(Queues queues, Cursor cursor, Transfers transfers) {
+        if (queues.blocking.size() >= CAPACITY) { return false; }
+        queues.blocking.offer(cursor.next(keys));
+        transfers.offered++;
+        return true;
+    }
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(2)
+    public Integer blockingPoll(Queues queues, Transfers transfers) {
+        Integer value = queues.blocking.poll();
+        if (value != null) { transfers.polled++; }
+        return value;
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(2)
+    public boolean lockedOffer(Queues queues, Cursor cursor, Transfers transfers) {
+        Array_Priority_Queue<Integer> queue = queues.locked;
+        synchronized (queue) {
+            if (queue.size() >= CAPACITY) { return false; }
+            queue.offer(cursor.next(keys));
+        }
+        transfers.offered++;
+        return true;
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(2)
+    public Integer lockedPoll(Queues queues, Transfers transfers) {
+        Array_Priority_Queue<Integer> queue = queues.locked;
+        Integer value;
+        synchronized (queue) { value = queue.isEmpty() ? null : queue.poll(); }
+        if (value != null) { transfers.polled++; }
+        return value;
+    }
+}
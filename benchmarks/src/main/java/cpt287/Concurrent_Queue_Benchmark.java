@@ -0,0 +1,95 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Concurrent_Circular_Array_Queue against a synchronized Circular_Array_Queue, with producers and consumers
+    The SPSC queue runs with one producer and one consumer; the others with two of each. Every queue holds at most
+    CAPACITY values, so a producer that gets ahead fails its offers instead of growing the queue.
+*/
+public class Concurrent_Queue_Benchmark extends Concurrent_Benchmark {
+    /** A queue shared by the threads of a group */
+    @State(Scope.Group)
+    public static class Queues {
+        Concurrent_Circular_Array_Queue<Integer> spsc;  // Queue for a single producer and consumer
+        Concurrent_Circular_Array_Queue<Integer> mpmc;  // Queue for several producers and consumers
+        Circular_Array_Queue<Integer> locked;  // Queue guarded by its own monitor
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            spsc = new Concurrent_Circular_Array_Queue<>(CAPACITY, Concurrent_Circular_Array_Queue.Mode.SPSC);
+            mpmc = new Concurrent_Circular_Array_Queue<>(CAPACITY, Concurrent_Circular_Array_Queue.Mode.MPMC);
+            locked = new Circular_Array_Queue<>();
+        }
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public boolean spscOffer(Queues queues, Cursor cursor, Transfers transfers) {
+        if (!queues.spsc.offer(cursor.next(keys))) { return false; }
+        transfers.offered++;
+        return true;
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public Integer spscPoll(Queues queues, Transfers transfers) {
+        Integer value = queues.spsc.poll();
+        if (value != null) { transfers.polled++; }
+        return value;
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(2)
+    public boolean mpmcOffer(Queues queues, Cursor cursor, Transfers transfers) {
+        if (!queues.mpmc.offer(cursor.next(keys))) { return false; }
+        transfers.offered++;
+        return true;
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(2)
+    public Integer mpmcPoll(Queues queues, Transfers transfers) {
+        Integer value = queues.mpmc.poll();
+        if (value != null) { transfers.polled++; }
+        return value;
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(2)
+    public boolean lockedOffer(Queues queues, Cursor cursor, Transfers transfers) {
+        Circular_Array_Queue<Integer> queue = queues.locked;
+        synchronized (queue) {
+            if (queue.size() >= CAPACITY) { return false; }
+            queue.offer(cursor.next(keys));
+        }
+        transfers.offered++;
+        return true;
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(2)
+    public Integer lockedPoll(Queues queues, Transfers transfers) {
+        Circular_Array_Queue<Integer> queue = queues.locked;
+        Integer value;
+        synchronized (queue) { value = queue.isEmpty() ? null : queue.poll(); }
+        if (value != null) { transfers.polled++; }
+        return value;
+    }
+}
@@ -0,0 +1,74 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+/** The concurrent sorted sets against ConcurrentSkipListSet and a synchronized Binary_Search_Tree
+    Each set starts with every other key; each thread then runs a read-mostly mix (90% contains, 5% insert,
+    5% remove) over the shared keys.
+*/
+@Threads(4)
+public class Concurrent_Sorted_Set_Benchmark extends Concurrent_Benchmark {
+    @Param({"Concurrent_Skip_List", "ConcurrentSkipListSet", "Persistent_Binary_Search_Tree", "Binary_Search_Tree"})
+    public String set;  // The implementation (Binary_Search_Tree is guarded by its own monitor)
+
+    private Predicate<Integer> contains;  // Tests whether a value appears in the set
+    private Predicate<Integer> insert;  // Inserts a value into the set
+    private Predicate<Integer> remove;  // Removes a value from the set
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (set) {
+            case "Concurrent_Skip_List": {
+                Concurrent_Skip_List<Integer> skipList = new Concurrent_Skip_List<>();
+                contains = skipList::contains;
+                insert = skipList::insert;
+                remove = skipList::remove;
+                break;
+            }
+            case "ConcurrentSkipListSet": {
+                ConcurrentSkipListSet<Integer> skipListSet = new ConcurrentSkipListSet<>();
+                contains = skipListSet::contains;
+                insert = skipListSet::add;
+                remove = skipListSet::remove;
+                break;
+            }
+            case "Persistent_Binary_Search_Tree": {
+                Persistent_Binary_Search_Tree<Integer> persistent = new Persistent_Binary_Search_Tree<>();
+                contains = persistent::contains;
+                insert = persistent::insert;
+                remove = persistent::remove;
+                break;
+            }
+            case "Binary_Search_Tree": {
+                Binary_Search_Tree<Integer> tree = new Binary_Search_Tree<>();
+                contains = value -> { synchronized (tree) { return tree.contains(value); } };
+                insert = value -> { synchronized (tree) { return tree.insert(value); } };
+                remove = value -> { synchronized (tree) { return tree.remove(value); } };
+                break;
+            }
+            default: throw new IllegalArgumentException("Illegal set: " + set);
+        }
+        for (int i = 0; i < keys.length; i += 2) { insert.test(keys[i]); }
+    }
+
+    @Benchmark
+    public boolean mixed(Cursor cursor) {
+        Integer value = cursor.next(keys);
+        switch (cursor.count() % 20) {
+            case 0: return insert.test(value);
+            case 1: return remove.test(value);
+            default: return contains.test(value);
+        }
+    }
+}
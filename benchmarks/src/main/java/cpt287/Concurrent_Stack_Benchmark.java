@@ -0,0 +1,40 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+/** Concurrent_Linked_List_Stack against a synchronized Linked_List_Stack (the contended push/pop row)
+    Every thread pushes a value and pops a value in turn, so the stacks stay nearly empty and every operation
+    competes for the top.
+*/
+@Threads(4)
+public class Concurrent_Stack_Benchmark extends Concurrent_Benchmark {
+    private Concurrent_Linked_List_Stack<Integer> stack;  // Lock-free stack
+    private Linked_List_Stack<Integer> locked;  // Stack guarded by its own monitor
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        stack = new Concurrent_Linked_List_Stack<>();
+        locked = new Linked_List_Stack<>();
+    }
+
+    @Benchmark
+    public Integer pushPop(Cursor cursor) {
+        stack.push(cursor.next(keys));
+        return stack.pop();
+    }
+
+    @Benchmark
+    public Integer lockedPushPop(Cursor cursor) {
+        Integer key = cursor.next(keys);
+        synchronized (locked) { locked.push(key); }
+        synchronized (locked) { return locked.isEmpty() ? null : locked.pop(); }
+    }
+}
@@ -0,0 +1,58 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.Random;
+
+/** The inputs shared by the benchmarks (generated with a fixed seed, outside the measured code) */
+final class Keys {
+    private Keys() {}
+
+    /** Returns the keys 0 .. n - 1 in a shuffled order.
+        @param n: the number of keys
+        @return: the shuffled keys, boxed
+    */
+    static Integer[] shuffled(int n) {
+        Integer[] keys = new Integer[n];
+        for (int i = 0; i < n; i++) { keys[i] = i; }
+        Random random = new Random(287);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer temp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = temp;
+        }
+        return keys;
+    }  // Time complexity: O(n)
+
+    /** Returns the keys 0 .. n - 1 in the same shuffled order as shuffled(n), unboxed.
+        @param n: the number of keys
+        @return: the shuffled keys
+    */
+    static int[] shuffledInts(int n) {
+        Integer[] keys = shuffled(n);
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) { arr[i] = keys[i]; }
+        return arr;
+    }  // Time complexity: O(n)
+
+    /** Returns n values forming 16 ascending runs whose values interleave (nearly sorted input).
+        @param n: the number of values
+        @return: the values
+    */
+    static int[] sortedRuns(int n) {
+        int[] arr = new int[n];
+        int runLength = (n + 15) / 16;
+        for (int i = 0; i < n; i++) { arr[i] = i % runLength * 16 + i / runLength; }
+        return arr;
+    }  // Time complexity: O(n)
+
+    /** Returns the number of searches for a container with O(n) search, so that they scan about 10M elements.
+        @param n: the number of elements
+        @return: the number of searches
+    */
+    static int linearLookups(int n) { return (int)Math.max(1, Math.min(n, 10_000_000L / n)); }  // Time complexity: O(1)
+}
@@ -0,0 +1,84 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Linked_List against java.util.LinkedList (contains searches enough keys to scan about 10M elements) */
+public class Linked_List_Benchmark extends Batch_Benchmark {
+    private Linked_List<Integer> list;  // The keys in a Linked_List
+    private LinkedList<Integer> javaList;  // The keys in a java.util.LinkedList
+
+    @Override
+    protected void prepare() { fill(); }
+
+    private void fill() {
+        list = new Linked_List<>();
+        javaList = new LinkedList<>();
+        for (Integer key : keys) {
+            list.addLast(key);
+            javaList.addLast(key);
+        }
+    }
+
+    /** Refills the lists before each invocation of a benchmark that empties them */
+    @State(Scope.Benchmark)
+    public static class Refill {
+        @Setup(Level.Invocation)
+        public void refill(Linked_List_Benchmark b) { b.fill(); }
+    }
+
+    @Benchmark
+    public Linked_List<Integer> addLast() {
+        Linked_List<Integer> result = new Linked_List<>();
+        for (Integer key : keys) { result.addLast(key); }
+        return result;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> javaAddLast() {
+        LinkedList<Integer> result = new LinkedList<>();
+        for (Integer key : keys) { result.addLast(key); }
+        return result;
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) { bh.consume(it.next()); }
+    }
+
+    @Benchmark
+    public void javaIterate(Blackhole bh) {
+        for (Integer value : javaList) { bh.consume(value); }
+    }
+
+    @Benchmark
+    public void contains(Blackhole bh) {
+        for (int i = 0, lookups = Keys.linearLookups(n); i < lookups; i++) { bh.consume(list.contains(keys[i])); }
+    }
+
+    @Benchmark
+    public void javaContains(Blackhole bh) {
+        for (int i = 0, lookups = Keys.linearLookups(n); i < lookups; i++) { bh.consume(javaList.contains(keys[i])); }
+    }
+
+    @Benchmark
+    public void removeFirst(Refill refill, Blackhole bh) {
+        while (!list.isEmpty()) { bh.consume(list.removeFirst()); }
+    }
+
+    @Benchmark
+    public void javaRemoveFirst(Refill refill, Blackhole bh) {
+        while (!javaList.isEmpty()) { bh.consume(javaList.removeFirst()); }
+    }
+}
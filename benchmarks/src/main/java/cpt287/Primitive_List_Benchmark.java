@@ -0,0 +1,56 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** The primitive array lists (compare with Array_List_Benchmark for the boxed Array_List) */
+public class Primitive_List_Benchmark extends Batch_Benchmark {
+    private Int_Array_List ints;  // The values 0 .. n - 1 in an Int_Array_List
+
+    @Override
+    protected void prepare() {
+        ints = new Int_Array_List();
+        for (int i = 0; i < n; i++) { ints.add(i); }
+    }
+
+    @Benchmark
+    public Int_Array_List intAdd() {
+        Int_Array_List result = new Int_Array_List();
+        for (int i = 0; i < n; i++) { result.add(i); }
+        return result;
+    }
+
+    @Benchmark
+    public long intGet() {
+        long sum = 0;
+        for (int i = 0; i < n; i++) { sum += ints.get(i); }
+        return sum;
+    }
+
+    @Benchmark
+    public long intIterate() {
+        long sum = 0;
+        Int_List_Iterator it = ints.iterator();
+        while (it.hasNext()) { sum += it.next(); }
+        return sum;
+    }
+
+    @Benchmark
+    public Long_Array_List longAdd() {
+        Long_Array_List result = new Long_Array_List();
+        for (int i = 0; i < n; i++) { result.add(i); }
+        return result;
+    }
+
+    @Benchmark
+    public Double_Array_List doubleAdd() {
+        Double_Array_List result = new Double_Array_List();
+        for (int i = 0; i < n; i++) { result.add(i); }
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** The priority queues against java.util.PriorityQueue (n offers; n polls; building from an array)
+    The implementations of the Heap interface are chosen by the {heap} parameter; the others have their own
+    benchmarks, which ignore that parameter (run them with -p heap=Array_Priority_Queue to avoid repeats).
+*/
+public class Priority_Queue_Benchmark extends Batch_Benchmark {
+    @Param({"Priority_Queue", "Array_Priority_Queue", "D_Ary_Heap(4)", "D_Ary_Heap(8)", "Pairing_Heap"})
+    public String heap;  // The implementation measured by offer and poll
+
+    private Heap<Integer> filledHeap;  // The keys in the heap (refilled before each poll batch)
+    private Indexed_Priority_Queue<Integer> filledIndexed;  // The keys in an Indexed_Priority_Queue
+    private Int_Priority_Queue filledInts;  // The keys in an Int_Priority_Queue
+    private PriorityQueue<Integer> filledJava;  // The keys in a java.util.PriorityQueue
+
+    /** Creates an empty heap of the measured implementation.
+        @return: an empty heap
+    */
+    private Heap<Integer> newHeap() {
+        switch (heap) {
+            case "Priority_Queue": return new Priority_Queue<>();
+            case "Array_Priority_Queue": return new Array_Priority_Queue<>();
+            case "D_Ary_Heap(4)": return new D_Ary_Heap<>(4, null);
+            case "D_Ary_Heap(8)": return new D_Ary_Heap<>(8, null);
+            case "Pairing_Heap": return new Pairing_Heap<>();
+            default: throw new IllegalArgumentException("Illegal heap: " + heap);
+        }
+    }
+
+    /** Refills the priority queues before each invocation of a benchmark that empties them */
+    @State(Scope.Benchmark)
+    public static class Refill {
+        @Setup(Level.Invocation)
+        public void refill(Priority_Queue_Benchmark b) {
+            b.filledHeap = b.newHeap();
+            b.filledIndexed = new Indexed_Priority_Queue<>();
+            b.filledInts = new Int_Priority_Queue();
+            b.filledJava = new PriorityQueue<>();
+            for (Integer key : b.keys) {
+                b.filledHeap.offer(key);
+                b.filledIndexed.offer(key);
+                b.filledInts.offer(key);
+                b.filledJava.offer(key);
+            }
+        }
+    }
+
+    @Benchmark
+    public Heap<Integer> offer() {
+        Heap<Integer> result = newHeap();
+        for (Integer key : keys) { result.offer(key); }
+        return result;
+    }
+
+    @Benchmark
+    public Indexed_Priority_Queue<Integer> indexedOffer() {
+        Indexed_Priority_Queue<Integer> result = new Indexed_Priority_Queue<>();
+        for (Integer key : keys) { result.offer(key); }
+        return result;
+    }
+
+    @Benchmark
+    public Int_Priority_Queue intOffer() {
+        Int_Priority_Queue result = new Int_Priority_Queue();
+        for (Integer key : keys) { result.offer(key); }
+        return result;
+    }
+
+    @Benchmark
+    public PriorityQueue<Integer> javaOffer() {
+        PriorityQueue<Integer> result = new PriorityQueue<>();
+        for (Integer key : keys) { result.offer(key); }
+        return result;
+    }
+
+    @Benchmark
+    public void poll(Refill refill, Blackhole bh) {
+        while (!filledHeap.isEmpty()) { bh.consume(filledHeap.poll()); }
+    }
+
+    @Benchmark
+    public void indexedPoll(Refill refill, Blackhole bh) {
+        while (!filledIndexed.isEmpty()) { bh.consume(filledIndexed.poll()); }
+    }
+
+    @Benchmark
+    public void intPoll(Refill refill, Blackhole bh) {
+        while (!filledInts.isEmpty()) { bh.consume(filledInts.poll()); }
+    }
+
+    @Benchmark
+    public void javaPoll(Refill refill, Blackhole bh) {
+        while (!filledJava.isEmpty()) { bh.consume(filledJava.poll()); }
+    }
+
+    @Benchmark
+    public Array_Priority_Queue<Integer> heapifyArray() { return new Array_Priority_Queue<>(keys, null); }
+
+    @Benchmark
+    public PriorityQueue<Integer> javaHeapifyCollection() { return new PriorityQueue<>(Arrays.asList(keys)); }
+}
@@ -0,0 +1,85 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.ArrayDeque;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Circular_Array_Queue and Circular_Array_Deque against java.util.ArrayDeque */
+public class Queue_Benchmark extends Batch_Benchmark {
+    private Circular_Array_Queue<Integer> queue;  // The keys in a Circular_Array_Queue
+    private Circular_Array_Deque<Integer> deque;  // The keys in a Circular_Array_Deque
+    private ArrayDeque<Integer> javaDeque;  // The keys in a java.util.ArrayDeque
+
+    /** Refills the containers before each invocation of a benchmark that empties them */
+    @State(Scope.Benchmark)
+    public static class Refill {
+        @Setup(Level.Invocation)
+        public void refill(Queue_Benchmark b) {
+            b.queue = new Circular_Array_Queue<>();
+            b.deque = new Circular_Array_Deque<>();
+            b.javaDeque = new ArrayDeque<>();
+            for (Integer key : b.keys) {
+                b.queue.offer(key);
+                b.deque.offerLast(key);
+                b.javaDeque.offerLast(key);
+            }
+        }
+    }
+
+    @Benchmark
+    public Circular_Array_Queue<Integer> offer() {
+        Circular_Array_Queue<Integer> result = new Circular_Array_Queue<>();
+        for (Integer key : keys) { result.offer(key); }
+        return result;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> javaOffer() {
+        ArrayDeque<Integer> result = new ArrayDeque<>();
+        for (Integer key : keys) { result.offer(key); }
+        return result;
+    }
+
+    @Benchmark
+    public void poll(Refill refill, Blackhole bh) {
+        while (!queue.isEmpty()) { bh.consume(queue.poll()); }
+    }
+
+    @Benchmark
+    public void javaPoll(Refill refill, Blackhole bh) {
+        while (!javaDeque.isEmpty()) { bh.consume(javaDeque.poll()); }
+    }
+
+    @Benchmark
+    public Circular_Array_Deque<Integer> offerFirst() {
+        Circular_Array_Deque<Integer> result = new Circular_Array_Deque<>();
+        for (Integer key : keys) { result.offerFirst(key); }
+        return result;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> javaOfferFirst() {
+        ArrayDeque<Integer> result = new ArrayDeque<>();
+        for (Integer key : keys) { result.offerFirst(key); }
+        return result;
+    }
+
+    @Benchmark
+    public void pollLast(Refill refill, Blackhole bh) {
+        while (!deque.isEmpty()) { bh.consume(deque.pollLast()); }
+    }
+
+    @Benchmark
+    public void javaPollLast(Refill refill, Blackhole bh) {
+        while (!javaDeque.isEmpty()) { bh.consume(javaDeque.pollLast()); }
+    }
+}
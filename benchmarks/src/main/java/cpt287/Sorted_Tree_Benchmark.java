@@ -0,0 +1,90 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.TreeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** The trees with the keys inserted in ascending order (the degenerate case of Binary_Search_Tree) */
+public class Sorted_Tree_Benchmark extends Batch_Benchmark {
+    private Integer[] sorted;  // The keys 0 .. n - 1 in ascending order
+    private AVL_Tree<Integer> avlTree;  // The keys in an AVL_Tree
+    private Binary_Search_Tree<Integer> tree;  // The shuffled keys in a Binary_Search_Tree (rebuilt for rebalance)
+
+    @Override
+    protected void prepare() {
+        sorted = new Integer[n];
+        for (int i = 0; i < n; i++) { sorted[i] = i; }
+        avlTree = new AVL_Tree<>();
+        for (Integer key : sorted) { avlTree.insert(key); }
+    }
+
+    /** The sizes for which inserting ascending keys into a Binary_Search_Tree is not quadratic in practice */
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({"1000", "10000"})
+        public int n;  // The number of elements
+
+        private Integer[] sorted;  // The keys 0 .. n - 1 in ascending order
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            sorted = new Integer[n];
+            for (int i = 0; i < n; i++) { sorted[i] = i; }
+        }
+    }
+
+    /** Rebuilds the unbalanced tree before each invocation of rebalance */
+    @State(Scope.Benchmark)
+    public static class Shuffled {
+        @Setup(Level.Invocation)
+        public void refill(Sorted_Tree_Benchmark b) {
+            b.tree = new Binary_Search_Tree<>();
+            for (Integer key : b.keys) { b.tree.insert(key); }
+        }
+    }
+
+    @Benchmark
+    public Binary_Search_Tree<Integer> insertSorted(Small small) {  // Uses the sizes of Small only
+        Binary_Search_Tree<Integer> result = new Binary_Search_Tree<>();
+        for (Integer key : small.sorted) { result.insert(key); }
+        return result;
+    }
+
+    @Benchmark
+    public Binary_Search_Tree<Integer> buildFromSortedArray() { return new Binary_Search_Tree<>(sorted); }
+
+    @Benchmark
+    public Binary_Search_Tree<Integer> rebalance(Shuffled shuffled) {
+        tree.rebalance();
+        return tree;
+    }
+
+    @Benchmark
+    public AVL_Tree<Integer> avlInsertSorted() {
+        AVL_Tree<Integer> result = new AVL_Tree<>();
+        for (Integer key : sorted) { result.insert(key); }
+        return result;
+    }
+
+    @Benchmark
+    public TreeSet<Integer> javaAddSorted() {
+        TreeSet<Integer> result = new TreeSet<>();
+        for (Integer key : sorted) { result.add(key); }
+        return result;
+    }
+
+    @Benchmark
+    public void avlContains(Blackhole bh) {
+        for (Integer key : keys) { bh.consume(avlTree.contains(key)); }
+    }
+}
@@ -0,0 +1,127 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** The sorting algorithms against java.util.Arrays (every benchmark sorts a fresh copy of its input) */
+public class Sorting_Benchmark extends Batch_Benchmark {
+    private int[] shuffled;  // The keys 0 .. n - 1 in shuffled order
+    private int[] runs;  // 16 interleaving ascending runs
+    private int[] arr;  // The array sorted by an invocation
+    private Integer[] boxed;  // The boxed array sorted by an invocation
+
+    @Override
+    protected void prepare() {
+        shuffled = Keys.shuffledInts(n);
+        runs = Keys.sortedRuns(n);
+    }
+
+    /** Copies the shuffled keys into the array to sort before each invocation */
+    @State(Scope.Benchmark)
+    public static class Shuffled {
+        @Setup(Level.Invocation)
+        public void copy(Sorting_Benchmark b) { b.arr = b.shuffled.clone(); }
+    }
+
+    /** Copies the sorted runs into the array to sort before each invocation */
+    @State(Scope.Benchmark)
+    public static class Runs {
+        @Setup(Level.Invocation)
+        public void copy(Sorting_Benchmark b) { b.arr = b.runs.clone(); }
+    }
+
+    /** Copies the boxed shuffled keys into the array to sort before each invocation */
+    @State(Scope.Benchmark)
+    public static class Boxed {
+        @Setup(Level.Invocation)
+        public void copy(Sorting_Benchmark b) { b.boxed = b.keys.clone(); }
+    }
+
+    @Benchmark
+    public int[] mergeSort(Shuffled input) {
+        Sorting.mergeSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] parallelMergeSort(Shuffled input) {
+        Sorting.parallelMergeSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] sort(Shuffled input) {
+        Sorting.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] heapSort(Shuffled input) {
+        Heap_Sort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] radixSort8(Shuffled input) {
+        Radix_Sort.sort(arr, 8);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] radixSort11(Shuffled input) {
+        Radix_Sort.sort(arr, 11);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] radixSort16(Shuffled input) {
+        Radix_Sort.sort(arr, 16);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] javaSort(Shuffled input) {
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] javaParallelSort(Shuffled input) {
+        Arrays.parallelSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] sortRuns(Runs input) {
+        Sorting.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] javaSortRuns(Runs input) {
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] sortComparator(Boxed input) {
+        Sorting.sort(boxed, Comparator.<Integer>naturalOrder());
+        return boxed;
+    }
+
+    @Benchmark
+    public Integer[] javaSortComparator(Boxed input) {
+        Arrays.sort(boxed, Comparator.<Integer>naturalOrder());
+        return boxed;
+    }
+}
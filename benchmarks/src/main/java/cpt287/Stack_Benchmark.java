@@ -0,0 +1,34 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.ArrayDeque;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Array_Stack and Linked_List_Stack against java.util.ArrayDeque (n pushes, then n pops) */
+public class Stack_Benchmark extends Batch_Benchmark {
+    @Benchmark
+    public void arrayStack(Blackhole bh) {
+        Array_Stack<Integer> stack = new Array_Stack<>();
+        for (Integer key : keys) { stack.push(key); }
+        while (!stack.isEmpty()) { bh.consume(stack.pop()); }
+    }
+
+    @Benchmark
+    public void linkedListStack(Blackhole bh) {
+        Linked_List_Stack<Integer> stack = new Linked_List_Stack<>();
+        for (Integer key : keys) { stack.push(key); }
+        while (!stack.isEmpty()) { bh.consume(stack.pop()); }
+    }
+
+    @Benchmark
+    public void javaArrayDeque(Blackhole bh) {
+        ArrayDeque<Integer> stack = new ArrayDeque<>();
+        for (Integer key : keys) { stack.push(key); }
+        while (!stack.isEmpty()) { bh.consume(stack.pop()); }
+    }
+}
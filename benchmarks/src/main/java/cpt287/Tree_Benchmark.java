@@ -0,0 +1,155 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+package cpt287;
+
+import java.util.TreeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** The search trees against java.util.TreeSet, with the keys inserted in shuffled order */
+public class Tree_Benchmark extends Batch_Benchmark {
+    private Binary_Search_Tree<Integer> tree;  // The keys in a Binary_Search_Tree
+    private Array_Binary_Search_Tree<Integer> arrayTree;  // The keys in an Array_Binary_Search_Tree
+    private B_Tree<Integer> bTree;  // The keys in a B_Tree
+    private TreeSet<Integer> treeSet;  // The keys in a java.util.TreeSet
+
+    @Override
+    protected void prepare() { fill(); }
+
+    private void fill() {
+        tree = new Binary_Search_Tree<>();
+        arrayTree = new Array_Binary_Search_Tree<>();
+        bTree = new B_Tree<>();
+        treeSet = new TreeSet<>();
+        for (Integer key : keys) {
+            tree.insert(key);
+            arrayTree.insert(key);
+            bTree.insert(key);
+            treeSet.add(key);
+        }
+    }
+
+    /** Refills the trees before each invocation of a benchmark that empties them */
+    @State(Scope.Benchmark)
+    public static class Refill {
+        @Setup(Level.Invocation)
+        public void refill(Tree_Benchmark b) { b.fill(); }
+    }
+
+    @Benchmark
+    public Binary_Search_Tree<Integer> insert() {
+        Binary_Search_Tree<Integer> result = new Binary_Search_Tree<>();
+        for (Integer key : keys) { result.insert(key); }
+        return result;
+    }
+
+    @Benchmark
+    public Array_Binary_Search_Tree<Integer> arrayTreeInsert() {
+        Array_Binary_Search_Tree<Integer> result = new Array_Binary_Search_Tree<>();
+        for (Integer key : keys) { result.insert(key); }
+        return result;
+    }
+
+    @Benchmark
+    public B_Tree<Integer> bTreeInsert() {
+        B_Tree<Integer> result = new B_Tree<>();
+        for (Integer key : keys) { result.insert(key); }
+        return result;
+    }
+
+    @Benchmark
+    public TreeSet<Integer> javaAdd() {
+        TreeSet<Integer> result = new TreeSet<>();
+        for (Integer key : keys) { result.add(key); }
+        return result;
+    }
+
+    @Benchmark
+    public void contains(Blackhole bh) {
+        for (Integer key : keys) { bh.consume(tree.contains(key)); }
+    }
+
+    @Benchmark
+    public void arrayTreeContains(Blackhole bh) {
+        for (Integer key : keys) { bh.consume(arrayTree.contains(key)); }
+    }
+
+    @Benchmark
+    public void bTreeContains(Blackhole bh) {
+        for (Integer key : keys) { bh.consume(bTree.contains(key)); }
+    }
+
+    @Benchmark
+    public void javaContains(Blackhole bh) {
+        for (Integer key : keys) { bh.consume(treeSet.contains(key)); }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        Iterator<Integer> it = tree.iterator();
+        while (it.hasNext()) { bh.consume(it.next()); }
+    }
+
+    @Benchmark
+    public void bTreeIterate(Blackhole bh) {
+        Iterator<Integer> it = bTree.iterator();
+        while (it.hasNext()) { bh.consume(it.next()); }
+    }
+
+    @Benchmark
+    public void javaIterate(Blackhole bh) {
+        for (Integer value : treeSet) { bh.consume(value); }
+    }
+
+    @Benchmark
+    public void select(Blackhole bh) {
+        for (Integer key : keys) { bh.consume(tree.select(key)); }
+    }
+
+    @Benchmark
+    public void rank(Blackhole bh) {
+        for (Integer key : keys) { bh.consume(tree.rank(key)); }
+    }
+
+    @Benchmark
+    public void rangeIterator(Blackhole bh) {  // 10 values from each key
+        for (Integer key : keys) {
+            Iterator<Integer> it = tree.rangeIterator(key, key + 9);
+            while (it.hasNext()) { bh.consume(it.next()); }
+        }
+    }
+
+    @Benchmark
+    public void javaSubSet(Blackhole bh) {  // 10 values from each key
+        for (Integer key : keys) {
+            for (Integer value : treeSet.subSet(key, true, key + 9, true)) { bh.consume(value); }
+        }
+    }
+
+    @Benchmark
+    public void remove(Refill refill, Blackhole bh) {
+        for (Integer key : keys) { bh.consume(tree.remove(key)); }
+    }
+
+    @Benchmark
+    public void arrayTreeRemove(Refill refill, Blackhole bh) {
+        for (Integer key : keys) { bh.consume(arrayTree.remove(key)); }
+    }
+
+    @Benchmark
+    public void bTreeRemove(Refill refill, Blackhole bh) {
+        for (Integer key : keys) { bh.consume(bTree.remove(key)); }
+    }
+
+    @Benchmark
+    public void javaRemove(Refill refill, Blackhole bh) {
+        for (Integer key : keys) { bh.consume(treeSet.remove(key)); }
+    }
+}
@@ -0,0 +1,253 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.NoSuchElementException;
+
+/** A self-balancing (AVL) binary search tree
+    The heights of the two subtrees of every node differ by at most 1, so the height stays below 1.45 * log(n)
+    whatever the insertion order, and contains/insert/remove are O(log(n)) in the worst case.
+*/
+public class AVL_Tree<T extends Comparable<T>> extends Binary_Tree<T> implements Iterable<T> {
+    /** A binary tree node that records the height of its subtree */
+    private final class AVL_Node extends BTNode {
+        // Data fields
+        int height = 1;  // The height of the subtree rooted at this node
+
+        // Constructors
+
+        AVL_Node(T data) { super(data); }
+    }
+
+    // Data fields
+    private boolean changed;  // Whether the last insert/remove modified the tree
+
+    // Constructors
+
+    public AVL_Tree() { super(); }  // Default constructor
+
+    public AVL_Tree(AVL_Tree<T> other) {  // Copy constructor
+        super();
+        if (other == null) { throw new NullPointerException("Accessing null reference"); }
+        root = copy(other.root);
+    }
+
+    // Methods
+
+    /** Creates a deep copy of an AVL tree.
+        @param root: a reference to the root node of the AVL tree
+        @return: a reference to the root node of the deep copy
+    */
+    private BTNode copy(BTNode root) {
+        if (root == null) { return null; }
+        AVL_Node node = new AVL_Node(root.data);
+        node.height = height(root);
+        node.size = root.size;
+        node.left = copy(root.left);
+        node.right = copy(root.right);
+        return node;
+    }  // Time complexity: O(n)
+
+    /** Returns the height of a subtree.
+        @param node: a reference to the root node of the subtree
+        @return: the height of the subtree; {0} for a null tree
+    */
+    private int height(BTNode node) { return node == null ? 0 : ((AVL_Node)node).height; }  // Time complexity: O(1)
+
+    /** Recomputes the height and the subtree size of a node from those of its children.
+        @param node: a non-null reference to the node
+    */
+    private void update(BTNode node) {
+        ((AVL_Node)node).height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = 1 + (node.left == null ? 0 : node.left.size) + (node.right == null ? 0 : node.right.size);
+    }  // Time complexity: O(1)
+
+    /** Rotates a subtree to the right.
+        @param node: a reference to the root node of the subtree (with a non-null left child)
+        @return: a reference to the new root node of the subtree
+    */
+    private BTNode rotateRight(BTNode node) {
+        BTNode pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }  // Time complexity: O(1)
+
+    /** Rotates a subtree to the left.
+        @param node: a reference to the root node of the subtree (with a non-null right child)
+        @return: a reference to the new root node of the subtree
+    */
+    private BTNode rotateLeft(BTNode node) {
+        BTNode pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }  // Time complexity: O(1)
+
+    /** Restores the AVL property at a node whose subtrees are balanced.
+        @param node: a reference to the root node of the subtree
+        @return: a reference to the new root node of the subtree
+    */
+    private BTNode rebalance(BTNode node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {  // Left-heavy
+            if (height(node.left.left) < height(node.left.right)) { node.left = rotateLeft(node.left); }  // Left-right case
+            return rotateRight(node);
+        }
+        if (balance < -1) {  // Right-heavy
+            if (height(node.right.right) < height(node.right.left)) { node.right = rotateRight(node.right); }  // Right-left case
+            return rotateLeft(node);
+        }
+        return node;
+    }  // Time complexity: O(1)
+
+    /** Tests whether a target value appears in the AVL tree.
+        @param target: the target value to search in the AVL tree
+        @return: {true} if the target value appears in the AVL tree; {false} otherwise
+    */
+    public final boolean contains(T target) {
+        BTNode p = root;
+        while (p != null) {
+            int comparison = target.compareTo(p.data);
+            if (comparison == 0) { return true; }
+            p = comparison < 0 ? p.left : p.right;
+        }
+        return false;
+    }  // Time complexity: O(log(n))
+
+    /** Inserts a new value into an AVL tree.
+        @param localRoot: a reference to the local root node
+        @param value: the new value to insert into the AVL tree
+        @return: a reference to the new local root node
+    */
+    private BTNode insert(BTNode localRoot, T value) {
+        if (localRoot == null) {
+            changed = true;
+            return new AVL_Node(value);
+        }
+        int comparison = value.compareTo(localRoot.data);
+        if (comparison < 0) { localRoot.left = insert(localRoot.left, value); }
+        else if (comparison > 0) { localRoot.right = insert(localRoot.right, value); }
+        return changed ? rebalance(localRoot) : localRoot;
+    }  // Time complexity: O(log(n))
+
+    /** Inserts a new value into the AVL tree.
+        @param value: the new value to insert into the AVL tree
+        @return: {true} if the new value is inserted; {false} if the new value already exists in the AVL tree.
+    */
+    public final boolean insert(T value) {
+        changed = false;
+        root = insert(root, value);
+        return changed;
+    }  // Time complexity: O(log(n))
+
+    /** Removes a value from an AVL tree.
+        @param localRoot: a reference to the local root node
+        @param value: the value to remove from the AVL tree
+        @return: a reference to the new local root node
+    */
+    private BTNode remove(BTNode localRoot, T value) {
+        if (localRoot == null) { return null; }
+        int comparison = value.compareTo(localRoot.data);
+        if (comparison < 0) { localRoot.left = remove(localRoot.left, value); }
+        else if (comparison > 0) { localRoot.right = remove(localRoot.right, value); }
+        else {
+            changed = true;
+            if (localRoot.left == null) { return localRoot.right; }
+            if (localRoot.right == null) { return localRoot.left; }
+            // Replace the value with its inorder predecessor, then remove the predecessor from the left subtree.
+            BTNode predecessor = localRoot.left;
+            while (predecessor.right != null) { predecessor = predecessor.right; }
+            localRoot.data = predecessor.data;
+            localRoot.left = remove(localRoot.left, predecessor.data);
+        }
+        return changed ? rebalance(localRoot) : localRoot;
+    }  // Time complexity: O(log(n))
+
+    /** Removes a value from the AVL tree.
+        @param value: the value to remove from the AVL tree
+        @return: {true} if the value is removed; {false} if the value does not exist in the AVL tree.
+    */
+    public final boolean remove(T value) {
+        changed = false;
+        root = remove(root, value);
+        return changed;
+    }  // Time complexity: O(log(n))
+
+    /** Generates an iterator positioned at the beginning of the AVL tree.
+        @return: an iterator positioned at the beginning of the AVL tree
+    */
+    @Override
+    public final Iterator<T> iterator() {
+        return new Iterator<T>() {
+            // Data field
+            private Linked_List_Stack<BTNode> stack = initialize();  // Nodes along the path
+
+            // Methods
+
+            /** Initializes the stack for the AVL tree iterator.
+                @return: the initial stack for the AVL tree iterator
+            */
+            private Linked_List_Stack<BTNode> initialize() {
+                Linked_List_Stack<BTNode> stack = new Linked_List_Stack<>();
+                pushAllLeft(root, stack);
+                return stack;
+            }  // Time complexity: O(log(n))
+
+            /** Pushes all the left nodes onto a stack.
+                @param node: the initial AVL tree node
+                @param stack: the stack to store the nodes
+            */
+            private void pushAllLeft(BTNode node, Linked_List_Stack<BTNode> stack) {
+                while (node != null) {
+                    stack.push(node);
+                    node = node.left;
+                }
+            }  // Time complexity: O(log(n))
+
+            /** Tests whether there exists a next value in the AVL tree.
+                @return: {true} if there exists a next value; {false} if the iterator is at the end of the tree
+            */
+            @Override
+            public boolean hasNext() { return !stack.isEmpty(); }  // Time complexity: O(1)
+
+            /** Moves the iterator forward one position and returns the value passed by.
+                @return: the value passed by during the iterator movement
+                @throws NoSuchElementException: the iterator is at the end of the AVL tree.
+            */
+            @Override
+            public T next() {
+                if (!hasNext()) { throw new NoSuchElementException("Accessing null reference"); }
+                BTNode node = stack.pop();
+                if (node.right != null) { pushAllLeft(node.right, stack); }
+                return node.data;
+            }  // Time complexity: O(log(n))
+
+            /** Removes the next value at iterator position.
+                Rotations may move the nodes on the stack, so the path to the following value is searched again.
+                @return: the value removed
+                @throws NoSuchElementException: the iterator is at the end of the AVL tree.
+            */
+            @Override
+            public T removeNext() {
+                T value = next();
+                remove(value);
+                stack = new Linked_List_Stack<>();
+                BTNode p = root;
+                while (p != null) {  // Push the nodes greater than the removed value along the search path.
+                    if (value.compareTo(p.data) < 0) {
+                        stack.push(p);
+                        p = p.left;
+                    } else { p = p.right; }
+                }
+                return value;
+            }  // Time complexity: O(log(n))
+        };
+    }  // Time complexity: O(1)
+}
\ No newline at end of file
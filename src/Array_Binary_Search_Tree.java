@@ -0,0 +1,495 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/** A binary search tree stored in parallel arrays
+    A node is an index into the arrays: keys[i] holds its value, left[i] and right[i] the indices of its children
+    (NIL for none) and sizes[i] the size of its subtree. Compared with Binary_Search_Tree, there is no object header
+    or reference per node, and the nodes of a bulk-loaded or rebalanced tree sit next to each other in the arrays.
+    The slots of removed nodes are chained into a free list (through the left array) and reused by later inserts.
+*/
+public class Array_Binary_Search_Tree<T extends Comparable<T>> implements Iterable<T> {
+    // Data fields
+    private Object[] keys;  // The value of each node
+    private int[] left;  // The index of the left child of each node (or the next free slot for a free slot)
+    private int[] right;  // The index of the right child of each node
+    private int[] sizes;  // The size of the subtree rooted at each node
+    private int root = NIL;  // The index of the root node
+    private int used;  // The number of slots ever handed out (slots at and after this index were never used)
+    private int freeHead = NIL;  // The index of the first free slot below {used}
+    private static final int NIL = -1;  // The index standing for a null node
+    private static final int DEFAULT_CAPACITY = 10;  // Default capacity for an empty tree
+
+    // Constructors
+
+    public Array_Binary_Search_Tree() { this(DEFAULT_CAPACITY); }  // Default constructor
+
+    public Array_Binary_Search_Tree(int initialCapacity) {  // Constructor with an initial capacity
+        if (initialCapacity < 0 || initialCapacity > Growth_Policy.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        allocate(initialCapacity);
+    }
+
+    public Array_Binary_Search_Tree(Array_Binary_Search_Tree<T> other) {  // Copy constructor
+        if (other == null) { throw new NullPointerException("Accessing null reference"); }
+        keys = Arrays.copyOf(other.keys, other.keys.length);
+        left = Arrays.copyOf(other.left, other.left.length);
+        right = Arrays.copyOf(other.right, other.right.length);
+        sizes = Arrays.copyOf(other.sizes, other.sizes.length);
+        root = other.root;
+        used = other.used;
+        freeHead = other.freeHead;
+    }
+
+    /** Creates a perfectly balanced binary search tree from a sorted array.
+        @param sorted: the values in strictly ascending order
+        @throws NullPointerException: the array is null.
+        @throws IllegalArgumentException: the values are not in strictly ascending order.
+    */
+    public Array_Binary_Search_Tree(T[] sorted) {
+        if (sorted == null) { throw new NullPointerException("Accessing null array"); }
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1].compareTo(sorted[i]) >= 0) {
+                throw new IllegalArgumentException("Values not in strictly ascending order: " + sorted[i]);
+            }
+        }
+        allocate(Math.max(sorted.length, DEFAULT_CAPACITY));
+        root = build(sorted, 0, sorted.length);
+    }
+
+    // Methods
+
+    /** Replaces the arrays with empty arrays of a given capacity.
+        @param capacity: the number of nodes the arrays can hold
+    */
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        sizes = new int[capacity];
+        root = NIL;
+        used = 0;
+        freeHead = NIL;
+    }  // Time complexity: O(n)
+
+    /** Builds a perfectly balanced binary search tree from a segment of sorted values.
+        The nodes take consecutive slots in preorder, so the top levels of the tree share cache lines.
+        @param values: the values in strictly ascending order
+        @param from: the index of the first value of the segment
+        @param to: the index after the last value of the segment
+        @return: the index of the root node of the binary search tree
+    */
+    private int build(Object[] values, int from, int to) {
+        if (from >= to) { return NIL; }
+        int mid = (from + to) >>> 1;
+        int node = used++;
+        keys[node] = values[mid];
+        sizes[node] = to - from;
+        left[node] = build(values, from, mid);
+        right[node] = build(values, mid + 1, to);
+        return node;
+    }  // Time complexity: O(n)  Recursion depth: O(log(n))
+
+    /** Takes a slot for a new leaf node, growing the arrays if no slot is free.
+        @param value: the value of the new node
+        @return: the index of the new node
+    */
+    private int newNode(T value) {
+        int node;
+        if (freeHead != NIL) {
+            node = freeHead;
+            freeHead = left[node];
+        } else {
+            if (used == keys.length) {
+                int newCapacity = Growth_Policy.DOUBLING.grow(keys.length, used + 1L);
+                keys = Arrays.copyOf(keys, newCapacity);
+                left = Arrays.copyOf(left, newCapacity);
+                right = Arrays.copyOf(right, newCapacity);
+                sizes = Arrays.copyOf(sizes, newCapacity);
+            }
+            node = used++;
+        }
+        keys[node] = value;
+        left[node] = NIL;
+        right[node] = NIL;
+        sizes[node] = 1;
+        return node;
+    }  // Time complexity: O(1) amortized
+
+    /** Returns the slot of a removed node to the free list.
+        @param node: the index of the removed node
+    */
+    private void freeNode(int node) {
+        keys[node] = null;  // Release the reference for garbage collection.
+        left[node] = freeHead;
+        freeHead = node;
+    }  // Time complexity: O(1)
+
+    /** Returns the value of a node.
+        @param node: the index of the node
+        @return: the value of the node
+    */
+    @SuppressWarnings("unchecked")
+    private T key(int node) { return (T)keys[node]; }  // Time complexity: O(1)
+
+    /** Returns the number of nodes in a subtree.
+        @param node: the index of the root node of the subtree
+        @return: the number of nodes in the subtree; {0} for a null tree
+    */
+    private int size(int node) { return node == NIL ? 0 : sizes[node]; }  // Time complexity: O(1)
+
+    /** Returns the size of the binary search tree.
+        @return: the number of values in the binary search tree
+    */
+    public final int size() { return size(root); }  // Time complexity: O(1)
+
+    /** Tests whether the binary search tree is empty or not.
+        @return: {true} if the binary search tree is empty; {false} otherwise
+    */
+    public final boolean isEmpty() { return root == NIL; }  // Time complexity: O(1)
+
+    /** Tests whether a target value appears in the binary search tree.
+        @param target: the target value to search in the binary search tree
+        @return: {true} if the target value appears in the binary search tree; {false} otherwise
+    */
+    public final boolean contains(T target) {
+        int p = root;
+        while (p != NIL) {
+            int comparison = target.compareTo(key(p));
+            if (comparison == 0) { return true; }
+            p = comparison < 0 ? left[p] : right[p];
+        }
+        return false;
+    }  // Time complexity: O(h)
+
+    /** Inserts a new value into the binary search tree
+        @param value: the new value to insert into the binary search tree
+        @return: {true} if the new value is inserted; {false} if the new value already exists in the binary search tree.
+    */
+    public final boolean insert(T value) {
+        if (root == NIL) {
+            root = newNode(value);
+            return true;
+        }
+        int p = root;
+        while (true) {
+            int comparison = value.compareTo(key(p));
+            if (comparison == 0) {  // Already exists: undo the size increments along the path.
+                for (int q = root; q != p; q = value.compareTo(key(q)) < 0 ? left[q] : right[q]) { sizes[q]--; }
+                return false;
+            }
+            sizes[p]++;
+            if (comparison < 0) {
+                if (left[p] == NIL) {
+                    int node = newNode(value);  // May replace the arrays, so store the index afterwards.
+                    left[p] = node;
+                    return true;
+                }
+                p = left[p];
+            } else {
+                if (right[p] == NIL) {
+                    int node = newNode(value);
+                    right[p] = node;
+                    return true;
+                }
+                p = right[p];
+            }
+        }
+    }  // Time complexity: O(h)
+
+    /** Replaces a child node of a parent node.
+        @param parent: the index of the parent node; or {NIL} if the child is the root
+        @param child: the index of the child node to replace
+        @param replacement: the index of the node taking the place of the child
+    */
+    private void replaceChild(int parent, int child, int replacement) {
+        if (parent == NIL) { root = replacement; }
+        else if (left[parent] == child) { left[parent] = replacement; }
+        else { right[parent] = replacement; }
+    }  // Time complexity: O(1)
+
+    /** Removes a value from the binary search tree.
+        @param value: the value to remove from the binary search tree
+        @return: {true} if the value is removed; {false} if the value does not exist in the binary search tree.
+    */
+    public final boolean remove(T value) {
+        int parent = NIL, localRoot = root;
+        while (localRoot != NIL) {
+            int comparison = value.compareTo(key(localRoot));
+            if (comparison == 0) { break; }
+            parent = localRoot;
+            localRoot = comparison < 0 ? left[localRoot] : right[localRoot];
+        }
+        if (localRoot == NIL) { return false; }
+        for (int q = root; q != localRoot; q = value.compareTo(key(q)) < 0 ? left[q] : right[q]) { sizes[q]--; }
+        if (left[localRoot] == NIL) { replaceChild(parent, localRoot, right[localRoot]); }
+        else if (right[localRoot] == NIL) { replaceChild(parent, localRoot, left[localRoot]); }
+        else {  // Replace the node with its inorder predecessor (the maximum of the left subtree).
+            int predecessorParent = localRoot, predecessor = left[localRoot];
+            while (right[predecessor] != NIL) {
+                sizes[predecessor]--;  // The predecessor leaves this subtree.
+                predecessorParent = predecessor;
+                predecessor = right[predecessor];
+            }
+            if (predecessorParent != localRoot) {
+                right[predecessorParent] = left[predecessor];
+                left[predecessor] = left[localRoot];
+            }
+            right[predecessor] = right[localRoot];
+            sizes[predecessor] = sizes[localRoot] - 1;
+            replaceChild(parent, localRoot, predecessor);
+        }
+        freeNode(localRoot);
+        return true;
+    }  // Time complexity: O(h)
+
+    /** Returns the k-th smallest value in the binary search tree.
+        @param k: the number of values smaller than the value to return (0-based)
+        @return: the k-th smallest value in the binary search tree
+        @throws IndexOutOfBoundsException: k < 0 or k >= size()
+    */
+    public final T select(int k) {
+        if (k < 0 || k >= size()) { throw new IndexOutOfBoundsException("Index out of bounds: " + k); }
+        int p = root;
+        while (true) {
+            int leftSize = size(left[p]);
+            if (k == leftSize) { return key(p); }
+            if (k < leftSize) { p = left[p]; }
+            else {
+                k -= leftSize + 1;
+                p = right[p];
+            }
+        }
+    }  // Time complexity: O(h)
+
+    /** Counts the values smaller than (or equal to) a key.
+        @param key: the key to compare the values with
+        @param inclusive: {true} to also count a value equal to the key
+        @return: the number of values smaller than (or equal to) the key
+    */
+    private int countBelow(T key, boolean inclusive) {
+        int count = 0;
+        int p = root;
+        while (p != NIL) {
+            int comparison = key.compareTo(key(p));
+            if (comparison < 0) { p = left[p]; }
+            else if (comparison > 0) {
+                count += size(left[p]) + 1;
+                p = right[p];
+            } else { return count + size(left[p]) + (inclusive ? 1 : 0); }
+        }
+        return count;
+    }  // Time complexity: O(h)
+
+    /** Returns the rank of a key in the binary search tree.
+        @param key: the key to rank (it does not need to appear in the binary search tree)
+        @return: the number of values smaller than the key
+    */
+    public final int rank(T key) { return countBelow(key, false); }  // Time complexity: O(h)
+
+    /** Counts the values within a range.
+        @param lo: the lower bound of the range (inclusive)
+        @param hi: the upper bound of the range (inclusive)
+        @return: the number of values v with lo <= v <= hi; {0} if lo > hi
+    */
+    public final int countInRange(T lo, T hi) {
+        if (lo.compareTo(hi) > 0) { return 0; }
+        return countBelow(hi, true) - countBelow(lo, false);
+    }  // Time complexity: O(h)
+
+    /** Returns the greatest value not greater than a key.
+        @param key: the key to compare the values with
+        @return: the greatest value v with v <= key; or {null} if there is no such value
+    */
+    public final T floor(T key) {
+        T result = null;
+        int p = root;
+        while (p != NIL) {
+            int comparison = key.compareTo(key(p));
+            if (comparison == 0) { return key(p); }
+            if (comparison < 0) { p = left[p]; }
+            else {
+                result = key(p);
+                p = right[p];
+            }
+        }
+        return result;
+    }  // Time complexity: O(h)
+
+    /** Returns the least value not less than a key.
+        @param key: the key to compare the values with
+        @return: the least value v with v >= key; or {null} if there is no such value
+    */
+    public final T ceiling(T key) {
+        T result = null;
+        int p = root;
+        while (p != NIL) {
+            int comparison = key.compareTo(key(p));
+            if (comparison == 0) { return key(p); }
+            if (comparison > 0) { p = right[p]; }
+            else {
+                result = key(p);
+                p = left[p];
+            }
+        }
+        return result;
+    }  // Time complexity: O(h)
+
+    /** Returns the greatest value less than a key.
+        @param key: the key to compare the values with
+        @return: the greatest value v with v < key; or {null} if there is no such value
+    */
+    public final T lower(T key) {
+        T result = null;
+        int p = root;
+        while (p != NIL) {
+            if (key.compareTo(key(p)) <= 0) { p = left[p]; }
+            else {
+                result = key(p);
+                p = right[p];
+            }
+        }
+        return result;
+    }  // Time complexity: O(h)
+
+    /** Returns the least value greater than a key.
+        @param key: the key to compare the values with
+        @return: the least value v with v > key; or {null} if there is no such value
+    */
+    public final T higher(T key) {
+        T result = null;
+        int p = root;
+        while (p != NIL) {
+            if (key.compareTo(key(p)) >= 0) { p = right[p]; }
+            else {
+                result = key(p);
+                p = left[p];
+            }
+        }
+        return result;
+    }  // Time complexity: O(h)
+
+    /** Rebalances the binary search tree into a perfectly balanced shape.
+        The nodes are rebuilt into compact arrays in preorder, which also drops the free list.
+    */
+    public final void rebalance() {
+        Object[] values = new Object[size()];
+        int count = 0;
+        Int_Array_List stack = new Int_Array_List();  // Nodes whose left subtrees are being visited
+        int p = root;
+        while (p != NIL || !stack.isEmpty()) {
+            while (p != NIL) {
+                stack.add(p);
+                p = left[p];
+            }
+            p = stack.remove(stack.size() - 1);
+            values[count++] = keys[p];
+            p = right[p];
+        }
+        allocate(Math.max(count, DEFAULT_CAPACITY));
+        root = build(values, 0, count);
+    }  // Time complexity: O(n)
+
+    /** An in-order iterator over the values within a range of the binary search tree */
+    private final class Array_BST_Iterator implements Iterator<T> {
+        // Data fields
+        private final Int_Array_List stack = new Int_Array_List();  // Nodes along the path
+        private final T hi;  // The upper bound of the range (inclusive); or {null} for no upper bound
+
+        // Constructors
+
+        /** Creates an iterator positioned at the least value not less than the lower bound.
+            @param lo: the lower bound of the range (inclusive); or {null} for no lower bound
+            @param hi: the upper bound of the range (inclusive); or {null} for no upper bound
+        */
+        Array_BST_Iterator(T lo, T hi) {
+            this.hi = hi;
+            int p = root;
+            while (p != NIL) {  // Push the nodes not less than the lower bound along the search path.
+                if (lo == null || lo.compareTo(key(p)) <= 0) {
+                    stack.add(p);
+                    p = left[p];
+                } else { p = right[p]; }
+            }
+        }
+
+        // Methods
+
+        /** Pushes all the left nodes onto the stack.
+            @param node: the index of the initial node
+        */
+        private void pushAllLeft(int node) {
+            while (node != NIL) {
+                stack.add(node);
+                node = left[node];
+            }
+        }  // Time complexity: O(h)
+
+        /** Tests whether there exists a next value in the range.
+            @return: {true} if there exists a next value; {false} if the iterator is at the end of the range
+        */
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty() && (hi == null || key(stack.get(stack.size() - 1)).compareTo(hi) <= 0);
+        }  // Time complexity: O(1)
+
+        /** Moves the iterator forward one position and returns the value passed by.
+            @return: the value passed by during the iterator movement
+            @throws NoSuchElementException: the iterator is at the end of the range.
+        */
+        @Override
+        public T next() {
+            if (!hasNext()) { throw new NoSuchElementException("Accessing null reference"); }
+            int node = stack.remove(stack.size() - 1);
+            pushAllLeft(right[node]);
+            return key(node);
+        }  // Time complexity: O(h)
+
+        /** Removes the next value at iterator position.
+            @return: the value removed
+            @throws NoSuchElementException: the iterator is at the end of the range.
+        */
+        @Override
+        public T removeNext() {
+            T value = next();
+            remove(value);  // Removal relinks nodes without moving values, so the indices on the stack stay valid.
+            return value;
+        }  // Time complexity: O(h)
+    }
+
+    /** Generates an iterator positioned at the beginning of the binary search tree.
+        @return: an iterator positioned at the beginning of the binary search tree
+    */
+    @Override
+    public final Iterator<T> iterator() { return new Array_BST_Iterator(null, null); }  // Time complexity: O(h)
+
+    /** Generates an iterator over the values within a range, in ascending order.
+        @param lo: the lower bound of the range (inclusive)
+        @param hi: the upper bound of the range (inclusive)
+        @return: an iterator positioned at the least value not less than the lower bound
+        @throws NullPointerException: either bound is null.
+    */
+    public final Iterator<T> rangeIterator(T lo, T hi) {
+        if (lo == null || hi == null) { throw new NullPointerException("Accessing null bound"); }
+        return new Array_BST_Iterator(lo, hi);
+    }  // Time complexity: O(h)
+
+    /** Customizes the output format for the binary search tree.
+        @return: a string representing the values in ascending order
+    */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Iterator<T> it = iterator();
+        while (it.hasNext()) {
+            builder.append(it.next());
+            if (it.hasNext()) { builder.append(", "); }
+        }
+        return builder.append(']').toString();
+    }  // Time complexity: O(n)
+}
\ No newline at end of file
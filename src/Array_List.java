@@ -1,6 +1,6 @@
 // Created by Dayu Wang (dwang@stchas.edu) on 2025-06-16
 
-// Last updated by Dayu Wang (dwang@stchas.edu) on 2025-06-27
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
 
 
 import java.util.Arrays;
@@ -11,17 +11,23 @@ public class Array_List<T> implements Iterable<T> {
     protected Object[] data;  // The values stored in the array list
     protected int capacity;  // The capacity of the array list
     protected int numOfItems;  // The size of the array list
+    private final Growth_Policy policy;  // How the capacity grows and shrinks
     private static final int DEFAULT_CAPACITY = 10;  // Default capacity for an empty array list
     
     // Constructors
     
-    public Array_List() {  // Default constructor
+    public Array_List() { this(Growth_Policy.DOUBLING); }  // Default constructor
+
+    public Array_List(Growth_Policy policy) {  // Constructor with a growth policy
+        if (policy == null) { throw new NullPointerException("Accessing null growth policy"); }
+        this.policy = policy;
         capacity = DEFAULT_CAPACITY;
         data = new Object[capacity];
     }
     
     public Array_List(Array_List<T> other) {  // Copy constructor
         if (other == null) { throw new NullPointerException("Accessing null array list"); }
+        policy = other.policy;
         capacity = other.capacity;
         numOfItems = other.numOfItems;
         data = Arrays.copyOf(other.data, capacity);
@@ -60,12 +66,42 @@ public class Array_List<T> implements Iterable<T> {
         data[index] = value;
     }  // Time complexity: O(1)
     
-    /** Doubles the capacity without changing the current values. */
-    protected final void reserve() {
-        capacity *= 2;
-        Object[] newData = new Object[capacity];
-        System.arraycopy(data, 0, newData, 0, size());
-        data = newData;
+    /** Reallocates the array with a new capacity without changing the current values.
+        @param newCapacity: the new capacity (not less than the size)
+    */
+    private void resize(int newCapacity) {
+        capacity = newCapacity;
+        data = Arrays.copyOf(data, capacity);
+    }  // Time complexity: O(n)
+
+    /** Grows the capacity according to the growth policy without changing the current values. */
+    protected final void reserve() { resize(policy.grow(capacity, capacity + 1L)); }  // Time complexity: O(n)
+
+    /** Grows the capacity according to the growth policy so that the array list can hold a minimum number of values.
+        @param minCapacity: the minimum number of values the array list must be able to hold
+    */
+    protected final void reserve(int minCapacity) {
+        if (minCapacity > capacity) { resize(policy.grow(capacity, minCapacity)); }
+    }  // Time complexity: O(n)
+
+    /** Shrinks the capacity if the growth policy finds the array sparse. */
+    private void shrink() {
+        int newCapacity = policy.shrink(capacity, size());
+        if (newCapacity < capacity) { resize(newCapacity); }
+    }  // Time complexity: O(n) when shrinking; O(1) otherwise
+
+    /** Increases the capacity (if necessary) to exactly hold a minimum number of values.
+        @param minCapacity: the minimum number of values the array list must be able to hold
+        @throws OutOfMemoryError: the capacity exceeds the maximum array length.
+    */
+    public final void ensureCapacity(int minCapacity) {
+        if (minCapacity > Growth_Policy.MAX_CAPACITY) { throw new OutOfMemoryError("Required array length too large: " + minCapacity); }
+        if (minCapacity > capacity) { resize(minCapacity); }
+    }  // Time complexity: O(n)
+
+    /** Reduces the capacity to the size of the array list. */
+    public final void trimToSize() {
+        if (capacity > size()) { resize(size()); }
     }  // Time complexity: O(n)
     
     /** Inserts a new value to the rear end of the array list.
@@ -100,10 +136,121 @@ public class Array_List<T> implements Iterable<T> {
         if (index < 0 || index >= size()) { throw new IndexOutOfBoundsException("Index out of bounds: " + index); }
         T toBeRemoved = get(index);
         System.arraycopy(data, index + 1, data, index, size() - index - 1);  // Data shift
-        numOfItems--;
+        data[--numOfItems] = null;  // Release the reference for garbage collection.
+        shrink();
         return toBeRemoved;
     }  // Time complexity: O(n)
     
+    /** Inserts a segment of an array at specified index with a single data shift.
+        @param index: the index to insert the first value of the segment
+        @param values: the array holding the values to insert
+        @param from: the index of the first value of the segment in the array
+        @param count: the number of values in the segment
+    */
+    private void insertSegment(int index, Object[] values, int from, int count) {
+        if (count == 0) { return; }
+        reserve(numOfItems + count);
+        System.arraycopy(data, index, data, index + count, size() - index);  // Data shift
+        System.arraycopy(values, from, data, index, count);
+        numOfItems += count;
+    }  // Time complexity: O(n + k)
+
+    /** Inserts all the values of an array at specified index into the array list.
+        @param index: the index to insert the first new value
+        @param values: the new values to insert into the array list
+        @throws IndexOutOfBoundsException: index < 0 || index > size
+        @throws NullPointerException: the array is null.
+    */
+    public void insertAll(int index, T[] values) {
+        if (index < 0 || index > size()) { throw new IndexOutOfBoundsException("Index out of bounds: " + index); }
+        if (values == null) { throw new NullPointerException("Accessing null array"); }
+        insertSegment(index, values, 0, values.length);
+    }  // Time complexity: O(n + k)
+
+    /** Inserts all the values of another array list at specified index into the array list.
+        @param index: the index to insert the first new value
+        @param other: the array list holding the new values
+        @throws IndexOutOfBoundsException: index < 0 || index > size
+        @throws NullPointerException: the other array list is null.
+    */
+    public void insertAll(int index, Array_List<T> other) {
+        if (index < 0 || index > size()) { throw new IndexOutOfBoundsException("Index out of bounds: " + index); }
+        if (other == null) { throw new NullPointerException("Accessing null array list"); }
+        // Inserting a list into itself: the data shift would overwrite the source.
+        Object[] values = other == this ? Arrays.copyOf(data, size()) : other.data;
+        insertSegment(index, values, 0, other.size());
+    }  // Time complexity: O(n + k)
+
+    /** Inserts all the values of an array to the rear end of the array list.
+        @param values: the new values to insert to the array list
+        @return: {true} if the array list changed; {false} otherwise
+        @throws NullPointerException: the array is null.
+    */
+    public boolean addAll(T[] values) {
+        insertAll(size(), values);
+        return values.length != 0;
+    }  // Time complexity: O(k)
+
+    /** Inserts all the values of another array list to the rear end of the array list.
+        @param other: the array list holding the new values
+        @return: {true} if the array list changed; {false} otherwise
+        @throws NullPointerException: the other array list is null.
+    */
+    public boolean addAll(Array_List<T> other) {
+        insertAll(size(), other);
+        return !other.isEmpty();
+    }  // Time complexity: O(k)
+
+    /** Inserts all the values generated by an iterable to the rear end of the array list.
+        @param values: the iterable generating the new values
+        @return: {true} if the array list changed; {false} otherwise
+        @throws NullPointerException: the iterable is null.
+    */
+    public boolean addAll(Iterable<T> values) {
+        if (values == null) { throw new NullPointerException("Accessing null iterable"); }
+        if (values instanceof Array_List) { return addAll((Array_List<T>)values); }
+        boolean changed = false;
+        Iterator<T> it = values.iterator();
+        while (it.hasNext()) {
+            if (add(it.next())) { changed = true; }
+        }
+        return changed;
+    }  // Time complexity: O(k)
+
+    /** Removes the values from index {from} (inclusive) to index {to} (exclusive) with a single data shift.
+        @param from: the index of the first value to remove
+        @param to: the index after the last value to remove
+        @throws IndexOutOfBoundsException: from < 0 or to > size or from > to
+    */
+    public final void removeRange(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("Range out of bounds: [" + from + ", " + to + ")");
+        }
+        System.arraycopy(data, to, data, from, size() - to);  // Data shift
+        Arrays.fill(data, size() - (to - from), size(), null);  // Release the references for garbage collection.
+        numOfItems -= to - from;
+        shrink();
+    }  // Time complexity: O(n)
+
+    /** Copies all the values of the array list into an array.
+        @param into: the array to copy the values into
+        @param offset: the index in the array to copy the first value into
+        @return: the array the values are copied into
+        @throws NullPointerException: the array is null.
+        @throws IndexOutOfBoundsException: offset < 0 or offset + size > length of the array
+    */
+    public final T[] toArray(T[] into, int offset) {
+        if (into == null) { throw new NullPointerException("Accessing null array"); }
+        if (offset < 0 || offset > into.length - size()) { throw new IndexOutOfBoundsException("Index out of bounds: " + offset); }
+        System.arraycopy(data, 0, into, offset, size());
+        return into;
+    }  // Time complexity: O(n)
+
+    /** Returns an array containing all the values of the array list.
+        @return: a new array containing all the values of the array list
+    */
+    public final Object[] toArray() { return Arrays.copyOf(data, size()); }  // Time complexity: O(n)
+
     /** Returns the index of a target value (first occurrence) in the array list.
         @param target: the target value to search in the array list
         @return: the index of the target value (first occurrence) in the array list;
@@ -123,7 +270,11 @@ public class Array_List<T> implements Iterable<T> {
     public boolean contains(T target) { return indexOf(target) != -1; }  // Time complexity: O(n)
 
     /** Removes all the values from the array list. */
-    public final void clear() { numOfItems = 0; }  // Time complexity: O(1)
+    public final void clear() {
+        Arrays.fill(data, 0, size(), null);  // Release the references for garbage collection.
+        numOfItems = 0;
+        shrink();
+    }  // Time complexity: O(n)
 
     /** Customizes the output format for the array list.
         @return: a string representing the output format of the array list
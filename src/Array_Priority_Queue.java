@@ -0,0 +1,140 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/** A min-heap priority queue stored directly in an array, ordered by a comparator or by the natural order
+    The sifts move values into a hole instead of swapping, so each level costs one array write,
+    and a queue built from an array is heapified bottom-up in O(n).
+*/
+public class Array_Priority_Queue<T> implements Heap<T> {
+    // Data fields
+    private Object[] heap;  // The values in heap order
+    private int size;  // The number of values in the priority queue
+    private final Comparator<? super T> comparator;  // The order of the values; {null} for the natural order
+    private static final int DEFAULT_CAPACITY = 10;  // Default capacity for an empty priority queue
+
+    // Constructors
+
+    public Array_Priority_Queue() { this(DEFAULT_CAPACITY, null); }  // Default constructor
+
+    public Array_Priority_Queue(Comparator<? super T> comparator) { this(DEFAULT_CAPACITY, comparator); }  // Constructor with a comparator
+
+    public Array_Priority_Queue(int initialCapacity, Comparator<? super T> comparator) {  // Constructor with an initial capacity
+        if (initialCapacity < 0 || initialCapacity > Growth_Policy.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        heap = new Object[initialCapacity];
+        this.comparator = comparator;
+    }
+
+    public Array_Priority_Queue(T[] values, Comparator<? super T> comparator) {  // Constructor from an array of values
+        if (values == null) { throw new NullPointerException("Accessing null array"); }
+        heap = Arrays.copyOf(values, values.length, Object[].class);
+        size = heap.length;
+        this.comparator = comparator;
+        heapify();
+    }
+
+    public Array_Priority_Queue(Array_Priority_Queue<T> other) {  // Copy constructor
+        if (other == null) { throw new NullPointerException("Accessing null reference"); }
+        heap = Arrays.copyOf(other.heap, other.heap.length);
+        size = other.size;
+        comparator = other.comparator;
+    }
+
+    // Methods
+
+    /** Returns the size of the priority queue.
+        @return: the size of the priority queue
+    */
+    @Override
+    public final int size() { return size; }  // Time complexity: O(1)
+
+    /** Tests whether the priority queue is empty.
+        @return: {true} if the priority queue is empty; {false} otherwise
+    */
+    @Override
+    public final boolean isEmpty() { return size == 0; }  // Time complexity: O(1)
+
+    /** Removes all the values from the priority queue. */
+    public final void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }  // Time complexity: O(n)
+
+    /** Compares two values by the comparator, or by their natural order without a comparator.
+        @param a: the first value
+        @param b: the second value
+        @return: a negative number, zero, or a positive number as {a} is less than, equal to, or greater than {b}
+    */
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator == null ? ((Comparable<? super T>)a).compareTo((T)b) : comparator.compare((T)a, (T)b);
+    }  // Time complexity: O(1)
+
+    /** Returns the value with the highest priority.
+        @return: value with the highest priority
+        @throws NoSuchElementException: the priority queue is empty.
+    */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (isEmpty()) { throw new NoSuchElementException("Accessing empty queue"); }
+        return (T)heap[0];
+    }  // Time complexity: O(1)
+
+    /** Removes and returns the value with the highest priority.
+        @return: value removed
+        @throws NoSuchElementException: the priority queue is empty.
+    */
+    @Override
+    public T poll() {
+        T toBeRemoved = peek();
+        Object last = heap[--size];
+        heap[size] = null;
+        if (size > 0) { siftDown(0, last); }
+        return toBeRemoved;
+    }  // Time complexity: O(log(n))
+
+    /** Inserts a new element to the priority queue.
+        @param value: element to add to the queue
+    */
+    @Override
+    public void offer(T value) {
+        if (size == heap.length) { heap = Arrays.copyOf(heap, Growth_Policy.DOUBLING.grow(heap.length, size + 1L)); }
+        int hole = size++;
+        while (hole > 0) {  // Move the greater parents down into the hole.
+            int parent = (hole - 1) / 2;
+            if (compare(heap[parent], value) <= 0) { break; }
+            heap[hole] = heap[parent];
+            hole = parent;
+        }
+        heap[hole] = value;
+    }  // Time complexity: O(log(n))
+
+    /** Moves a value down from a hole until no child is smaller, moving the smaller child up at each level.
+        @param hole: the index where the value starts
+        @param value: the value to place
+    */
+    private void siftDown(int hole, Object value) {
+        int half = size / 2;  // Indexes below this have at least one child.
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < size && compare(heap[child + 1], heap[child]) < 0) { child++; }
+            if (compare(value, heap[child]) <= 0) { break; }
+            heap[hole] = heap[child];
+            hole = child;
+        }
+        heap[hole] = value;
+    }  // Time complexity: O(log(n))
+
+    /** Arranges the values into heap order by sifting down every parent, from the last one to the root. */
+    private void heapify() {
+        for (int i = size / 2 - 1; i >= 0; i--) { siftDown(i, heap[i]); }
+    }  // Time complexity: O(n)
+}
\ No newline at end of file
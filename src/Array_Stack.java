@@ -1,6 +1,6 @@
 // Created by Dayu Wang (dwang@stchas.edu) on 2025-06-27
 
-// Last updated by Dayu Wang (dwang@stchas.edu) on 2025-06-27
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
 
 
 import java.util.Arrays;
@@ -12,17 +12,23 @@ public class Array_Stack<T> {
     private Object[] data;  // The values stored in the stack
     private int capacity;  // The capacity of the array
     private int numOfItems;  // The number of items in the stack
+    private final Growth_Policy policy;  // How the capacity of the array grows and shrinks
     private static final int DEFAULT_CAPACITY = 10;  // Default capacity for an empty array
 
     // Constructors
 
-    public Array_Stack() {  // Default constructor
+    public Array_Stack() { this(Growth_Policy.DOUBLING); }  // Default constructor
+
+    public Array_Stack(Growth_Policy policy) {  // Constructor with a growth policy
+        if (policy == null) { throw new NullPointerException("Accessing null growth policy"); }
+        this.policy = policy;
         capacity = DEFAULT_CAPACITY;
         data = new Object[capacity];
     }
 
     public Array_Stack(Array_Stack<T> other) {  // Copy constructor
         if (other == null) { throw new NullPointerException("Accessing null stack"); }
+        policy = other.policy;
         capacity = other.capacity;
         numOfItems = other.numOfItems;
         data = Arrays.copyOf(other.data, capacity);
@@ -57,17 +63,43 @@ public class Array_Stack<T> {
     @SuppressWarnings("unchecked")
     public final T pop() {
         if (isEmpty()) { throw new NoSuchElementException("Accessing empty stack"); }
-        return (T)data[--numOfItems];
-    }  // Time complexity: O(1)
+        T toBeRemoved = (T)data[--numOfItems];
+        data[numOfItems] = null;  // Release the reference for garbage collection.
+        shrink();
+        return toBeRemoved;
+    }  // Time complexity: O(1) amortized
+
+    /** Reallocates the array with a new capacity without changing the data.
+        @param newCapacity: the new capacity (not less than the size)
+    */
+    private void resize(int newCapacity) {
+        capacity = newCapacity;
+        data = Arrays.copyOf(data, capacity);
+    }  // Time complexity: O(n)
 
-    /** Doubles the capacity of the array without changing the data. */
-    private void reserve() {
-        capacity *= 2;
-        Object[] newData = new Object[capacity];
-        System.arraycopy(data,0, newData, 0, size());
-        data = newData;
+    /** Grows the capacity of the array according to the growth policy without changing the data. */
+    private void reserve() { resize(policy.grow(capacity, capacity + 1L)); }  // Time complexity: O(n)
+
+    /** Increases the capacity (if necessary) to exactly hold a minimum number of values.
+        @param minCapacity: the minimum number of values the stack must be able to hold
+        @throws OutOfMemoryError: the capacity exceeds the maximum array length.
+    */
+    public final void ensureCapacity(int minCapacity) {
+        if (minCapacity > Growth_Policy.MAX_CAPACITY) { throw new OutOfMemoryError("Required array length too large: " + minCapacity); }
+        if (minCapacity > capacity) { resize(minCapacity); }
     }  // Time complexity: O(n)
 
+    /** Reduces the capacity of the array to the size of the stack. */
+    public final void trimToSize() {
+        if (capacity > size()) { resize(size()); }
+    }  // Time complexity: O(n)
+
+    /** Shrinks the array if the growth policy finds it sparse. */
+    private void shrink() {
+        int newCapacity = policy.shrink(capacity, size());
+        if (newCapacity < capacity) { resize(newCapacity); }
+    }  // Time complexity: O(n) when shrinking; O(1) otherwise
+
     /** Inserts a new value onto the top of the stack.
         @param value: the new value to insert onto the stack
     */
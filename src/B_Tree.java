@@ -0,0 +1,374 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.NoSuchElementException;
+
+/** A B-tree (sorted set)
+    Every node other than the root holds between t - 1 and 2t - 1 sorted values, where t is the minimum degree,
+    and an internal node with k values has k + 1 children. All the leaves are at the same depth, so a search visits
+    about log_t(n) nodes, each searched by binary search over a contiguous array instead of chasing one
+    reference per comparison as a binary search tree does.
+    Insert splits full nodes and remove refills minimal nodes on the way down, so both take a single top-down pass.
+*/
+public class B_Tree<T extends Comparable<T>> implements Iterable<T> {
+    /** A B-tree node */
+    private static final class Node {
+        // Data fields
+        final Object[] keys;  // The values stored in the node (in ascending order)
+        final Node[] children;  // The child nodes; or {null} for a leaf
+        int numOfKeys;  // The number of values stored in the node
+
+        // Constructors
+
+        Node(int minDegree, boolean isLeaf) {
+            keys = new Object[2 * minDegree - 1];
+            children = isLeaf ? null : new Node[2 * minDegree];
+        }
+
+        /** Tests whether the node is a leaf.
+            @return: {true} if the node is a leaf; {false} otherwise
+        */
+        boolean isLeaf() { return children == null; }  // Time complexity: O(1)
+    }
+
+    // Data fields
+    private final int minDegree;  // The minimum degree t of the B-tree
+    private Node root;  // A reference to the root node of the B-tree
+    private int numOfItems;  // The size of the B-tree
+    private static final int DEFAULT_MIN_DEGREE = 32;  // Default minimum degree (up to 64 children per node)
+
+    // Constructors
+
+    public B_Tree() { this(DEFAULT_MIN_DEGREE); }  // Default constructor
+
+    /** Creates an empty B-tree.
+        @param minDegree: the minimum degree t (every node has at most 2t children)
+        @throws IllegalArgumentException: minDegree < 2 or minDegree > 2 ^ 20
+    */
+    public B_Tree(int minDegree) {
+        if (minDegree < 2 || minDegree > 1 << 20) { throw new IllegalArgumentException("Illegal minimum degree: " + minDegree); }
+        this.minDegree = minDegree;
+        root = new Node(minDegree, true);
+    }
+
+    public B_Tree(B_Tree<T> other) {  // Copy constructor
+        if (other == null) { throw new NullPointerException("Accessing null reference"); }
+        minDegree = other.minDegree;
+        numOfItems = other.numOfItems;
+        root = copy(other.root);
+    }
+
+    // Methods
+
+    /** Creates a deep copy of a B-tree.
+        @param node: a reference to the root node of the B-tree
+        @return: a reference to the root node of the deep copy
+    */
+    private Node copy(Node node) {
+        Node result = new Node(minDegree, node.isLeaf());
+        System.arraycopy(node.keys, 0, result.keys, 0, node.numOfKeys);
+        result.numOfKeys = node.numOfKeys;
+        if (!node.isLeaf()) {
+            for (int i = 0; i <= node.numOfKeys; i++) { result.children[i] = copy(node.children[i]); }
+        }
+        return result;
+    }  // Time complexity: O(n)  Recursion depth: O(log(n))
+
+    /** Returns the size of the B-tree.
+        @return: the number of values in the B-tree
+    */
+    public final int size() { return numOfItems; }  // Time complexity: O(1)
+
+    /** Tests whether the B-tree is empty or not.
+        @return: {true} if the B-tree is empty; {false} otherwise
+    */
+    public final boolean isEmpty() { return size() == 0; }  // Time complexity: O(1)
+
+    /** Tests whether a target value appears in the B-tree.
+        @param target: the target value to search in the B-tree
+        @return: {true} if the target value appears in the B-tree; {false} otherwise
+    */
+    public final boolean contains(T target) {
+        Node node = root;
+        while (true) {
+            int index = Ordered_Array_List.search(node.keys, node.numOfKeys, target);
+            if (index >= 0) { return true; }
+            if (node.isLeaf()) { return false; }
+            node = node.children[-index - 1];
+        }
+    }  // Time complexity: O(log(n))
+
+    /** Splits a full child of a node into two nodes, moving the middle value up into the node.
+        @param parent: a reference to the non-full parent node
+        @param index: the index of the full child in the parent node
+    */
+    private void splitChild(Node parent, int index) {
+        Node left = parent.children[index];
+        Node right = new Node(minDegree, left.isLeaf());
+        int t = minDegree;
+        System.arraycopy(left.keys, t, right.keys, 0, t - 1);
+        if (!left.isLeaf()) {
+            System.arraycopy(left.children, t, right.children, 0, t);
+            for (int i = t; i < 2 * t; i++) { left.children[i] = null; }
+        }
+        right.numOfKeys = t - 1;
+        left.numOfKeys = t - 1;
+        // Make room in the parent for the middle value and the new right node.
+        System.arraycopy(parent.keys, index, parent.keys, index + 1, parent.numOfKeys - index);
+        System.arraycopy(parent.children, index + 1, parent.children, index + 2, parent.numOfKeys - index);
+        parent.keys[index] = left.keys[t - 1];
+        parent.children[index + 1] = right;
+        parent.numOfKeys++;
+        for (int i = t - 1; i < 2 * t - 1; i++) { left.keys[i] = null; }  // Release the moved references.
+    }  // Time complexity: O(t)
+
+    /** Inserts a new value into the B-tree.
+        @param value: the new value to insert into the B-tree
+        @return: {true} if the new value is inserted; {false} if the new value already exists in the B-tree.
+    */
+    public final boolean insert(T value) {
+        if (root.numOfKeys == 2 * minDegree - 1) {  // Full root: the tree grows one level taller.
+            Node newRoot = new Node(minDegree, false);
+            newRoot.children[0] = root;
+            root = newRoot;
+            splitChild(newRoot, 0);
+        }
+        Node node = root;
+        while (true) {
+            int index = Ordered_Array_List.search(node.keys, node.numOfKeys, value);
+            if (index >= 0) { return false; }
+            index = -index - 1;
+            if (node.isLeaf()) {
+                System.arraycopy(node.keys, index, node.keys, index + 1, node.numOfKeys - index);
+                node.keys[index] = value;
+                node.numOfKeys++;
+                numOfItems++;
+                return true;
+            }
+            if (node.children[index].numOfKeys == 2 * minDegree - 1) {  // Split a full child before descending.
+                splitChild(node, index);
+                int comparison = value.compareTo(key(node, index));
+                if (comparison == 0) { return false; }
+                if (comparison > 0) { index++; }
+            }
+            node = node.children[index];
+        }
+    }  // Time complexity: O(t * log(n))
+
+    /** Returns a value of a node.
+        @param node: a reference to the node
+        @param index: the index of the value in the node
+        @return: the value at the index of the node
+    */
+    @SuppressWarnings("unchecked")
+    private static <E> E key(Node node, int index) { return (E)node.keys[index]; }  // Time complexity: O(1)
+
+    /** Merges two adjacent children of a node, moving the value between them down into the merged node.
+        @param parent: a reference to the parent node
+        @param index: the index of the left child (both children have t - 1 values)
+    */
+    private void merge(Node parent, int index) {
+        Node left = parent.children[index], right = parent.children[index + 1];
+        int t = minDegree;
+        left.keys[t - 1] = parent.keys[index];
+        System.arraycopy(right.keys, 0, left.keys, t, right.numOfKeys);
+        if (!left.isLeaf()) { System.arraycopy(right.children, 0, left.children, t, right.numOfKeys + 1); }
+        left.numOfKeys += right.numOfKeys + 1;
+        // Close the gap in the parent.
+        System.arraycopy(parent.keys, index + 1, parent.keys, index, parent.numOfKeys - index - 1);
+        System.arraycopy(parent.children, index + 2, parent.children, index + 1, parent.numOfKeys - index - 1);
+        parent.numOfKeys--;
+        parent.keys[parent.numOfKeys] = null;
+        parent.children[parent.numOfKeys + 1] = null;
+    }  // Time complexity: O(t)
+
+    /** Makes sure a child of a node has at least t values before the removal descends into it,
+        by borrowing a value from a sibling or by merging with a sibling.
+        @param parent: a reference to the parent node
+        @param index: the index of the child in the parent node
+        @return: a reference to the child to descend into
+    */
+    private Node fill(Node parent, int index) {
+        Node child = parent.children[index];
+        if (child.numOfKeys >= minDegree) { return child; }
+        if (index > 0 && parent.children[index - 1].numOfKeys >= minDegree) {  // Borrow from the left sibling.
+            Node sibling = parent.children[index - 1];
+            System.arraycopy(child.keys, 0, child.keys, 1, child.numOfKeys);
+            child.keys[0] = parent.keys[index - 1];
+            parent.keys[index - 1] = sibling.keys[sibling.numOfKeys - 1];
+            sibling.keys[sibling.numOfKeys - 1] = null;
+            if (!child.isLeaf()) {
+                System.arraycopy(child.children, 0, child.children, 1, child.numOfKeys + 1);
+                child.children[0] = sibling.children[sibling.numOfKeys];
+                sibling.children[sibling.numOfKeys] = null;
+            }
+            child.numOfKeys++;
+            sibling.numOfKeys--;
+            return child;
+        }
+        if (index < parent.numOfKeys && parent.children[index + 1].numOfKeys >= minDegree) {  // Borrow from the right.
+            Node sibling = parent.children[index + 1];
+            child.keys[child.numOfKeys] = parent.keys[index];
+            parent.keys[index] = sibling.keys[0];
+            System.arraycopy(sibling.keys, 1, sibling.keys, 0, sibling.numOfKeys - 1);
+            sibling.keys[sibling.numOfKeys - 1] = null;
+            if (!child.isLeaf()) {
+                child.children[child.numOfKeys + 1] = sibling.children[0];
+                System.arraycopy(sibling.children, 1, sibling.children, 0, sibling.numOfKeys);
+                sibling.children[sibling.numOfKeys] = null;
+            }
+            child.numOfKeys++;
+            sibling.numOfKeys--;
+            return child;
+        }
+        if (index < parent.numOfKeys) {  // Merge with the right sibling.
+            merge(parent, index);
+            return child;
+        }
+        merge(parent, index - 1);  // Merge with the left sibling.
+        return parent.children[index - 1];
+    }  // Time complexity: O(t)
+
+    /** Removes a value from the B-tree.
+        @param value: the value to remove from the B-tree
+        @return: {true} if the value is removed; {false} if the value does not exist in the B-tree.
+    */
+    public final boolean remove(T value) {
+        boolean found = false;
+        Node node = root;
+        while (true) {
+            int index = Ordered_Array_List.search(node.keys, node.numOfKeys, value);
+            if (index >= 0) {
+                found = true;
+                if (node.isLeaf()) {  // Remove the value from the leaf.
+                    System.arraycopy(node.keys, index + 1, node.keys, index, node.numOfKeys - index - 1);
+                    node.keys[--node.numOfKeys] = null;
+                    break;
+                }
+                Node left = node.children[index], right = node.children[index + 1];
+                if (left.numOfKeys >= minDegree) {  // Replace the value with its predecessor, then remove that.
+                    Node p = left;
+                    while (!p.isLeaf()) { p = p.children[p.numOfKeys]; }
+                    value = key(p, p.numOfKeys - 1);
+                    node.keys[index] = value;
+                    node = left;
+                } else if (right.numOfKeys >= minDegree) {  // Replace the value with its successor, then remove that.
+                    Node p = right;
+                    while (!p.isLeaf()) { p = p.children[0]; }
+                    value = key(p, 0);
+                    node.keys[index] = value;
+                    node = right;
+                } else {  // Both children are minimal: merge them around the value and remove it from the result.
+                    merge(node, index);
+                    node = left;
+                }
+            } else {
+                if (node.isLeaf()) { break; }  // Not found
+                node = fill(node, -index - 1);
+            }
+        }
+        if (root.numOfKeys == 0 && !root.isLeaf()) { root = root.children[0]; }  // The tree shrinks one level.
+        if (found) { numOfItems--; }
+        return found;
+    }  // Time complexity: O(t * log(n))
+
+    /** Generates an iterator positioned at the beginning of the B-tree.
+        @return: an iterator positioned at the beginning of the B-tree
+    */
+    @Override
+    public final Iterator<T> iterator() {
+        return new Iterator<T>() {
+            // Data fields
+            private final Array_Stack<Node> nodes = new Array_Stack<>();  // Nodes along the path
+            private final Int_Array_List positions = new Int_Array_List();  // The index of the next value in each node
+
+            {
+                pushAllLeft(root);
+                skipFinished();
+            }
+
+            // Methods
+
+            /** Pushes a node and all its leftmost descendants onto the stack.
+                @param node: a reference to the initial node
+            */
+            private void pushAllLeft(Node node) {
+                while (true) {
+                    nodes.push(node);
+                    positions.add(0);
+                    if (node.isLeaf()) { return; }
+                    node = node.children[0];
+                }
+            }  // Time complexity: O(log(n))
+
+            /** Pops the nodes whose values have all been passed. */
+            private void skipFinished() {
+                while (!nodes.isEmpty() && positions.get(positions.size() - 1) == nodes.peek().numOfKeys) {
+                    nodes.pop();
+                    positions.remove(positions.size() - 1);
+                }
+            }  // Time complexity: O(log(n))
+
+            /** Tests whether there exists a next value in the B-tree.
+                @return: {true} if there exists a next value; {false} if the iterator is at the end of the tree
+            */
+            @Override
+            public boolean hasNext() { return !nodes.isEmpty(); }  // Time complexity: O(1)
+
+            /** Moves the iterator forward one position and returns the value passed by.
+                @return: the value passed by during the iterator movement
+                @throws NoSuchElementException: the iterator is at the end of the B-tree.
+            */
+            @Override
+            public T next() {
+                if (!hasNext()) { throw new NoSuchElementException("Accessing null reference"); }
+                Node node = nodes.peek();
+                int index = positions.get(positions.size() - 1);
+                positions.set(positions.size() - 1, index + 1);
+                if (!node.isLeaf()) { pushAllLeft(node.children[index + 1]); }
+                skipFinished();
+                return key(node, index);
+            }  // Time complexity: O(log(n))
+
+            /** Removes the next value at iterator position.
+                Removal moves values between nodes, so the path to the following value is searched again.
+                @return: the value removed
+                @throws NoSuchElementException: the iterator is at the end of the B-tree.
+            */
+            @Override
+            public T removeNext() {
+                T value = next();
+                remove(value);
+                while (!nodes.isEmpty()) { nodes.pop(); }
+                positions.clear();
+                Node node = root;
+                while (true) {  // Push the path to the first value greater than the removed value.
+                    int index = Ordered_Array_List.search(node.keys, node.numOfKeys, value);
+                    index = index >= 0 ? index + 1 : -index - 1;
+                    nodes.push(node);
+                    positions.add(index);
+                    if (node.isLeaf()) { break; }
+                    node = node.children[index];
+                }
+                skipFinished();
+                return value;
+            }  // Time complexity: O(t * log(n))
+        };
+    }  // Time complexity: O(log(n))
+
+    /** Customizes the output format for the B-tree.
+        @return: a string representing the values in ascending order
+    */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Iterator<T> it = iterator();
+        while (it.hasNext()) {
+            builder.append(it.next());
+            if (it.hasNext()) { builder.append(", "); }
+        }
+        return builder.append(']').toString();
+    }  // Time complexity: O(n)
+}
\ No newline at end of file
@@ -1,11 +1,13 @@
 // Created by Dayu Wang (dwang@stchas.edu) on 2025-06-27
 
-// Last updated by Dayu Wang (dwang@stchas.edu) on 2025-06-28
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
 
 
 import java.util.NoSuchElementException;
 
-/** A binary search tree */
+/** A binary search tree
+    Every node records the size of its subtree, so the order statistics (select, rank, countInRange) take O(h).
+*/
 public class Binary_Search_Tree<T extends Comparable<T>> extends Binary_Tree<T> implements Iterable<T> {
     // Constructors
 
@@ -13,42 +15,131 @@ public class Binary_Search_Tree<T extends Comparable<T>> extends Binary_Tree<T>
 
     public Binary_Search_Tree(Binary_Search_Tree<T> other) { super(other); }  // Copy constructor
 
+    /** Creates a perfectly balanced binary search tree from a sorted array.
+        @param sorted: the values in strictly ascending order
+        @throws NullPointerException: the array is null.
+        @throws IllegalArgumentException: the values are not in strictly ascending order.
+    */
+    public Binary_Search_Tree(T[] sorted) {
+        super();
+        if (sorted == null) { throw new NullPointerException("Accessing null array"); }
+        checkAscending(sorted, sorted.length);
+        root = build(sorted, 0, sorted.length);
+    }
+
+    /** Creates a perfectly balanced binary search tree from an ordered array list.
+        @param sorted: the ordered array list
+        @throws NullPointerException: the ordered array list is null.
+    */
+    public Binary_Search_Tree(Ordered_Array_List<T> sorted) {
+        super();
+        if (sorted == null) { throw new NullPointerException("Accessing null array list"); }
+        Object[] values = sorted.toArray();  // Already strictly ascending
+        root = build(values, 0, values.length);
+    }
+
+    /** Creates a perfectly balanced binary search tree from the values left in an iterator.
+        @param sorted: an iterator passing the values in strictly ascending order
+        @throws NullPointerException: the iterator is null.
+        @throws IllegalArgumentException: the values are not in strictly ascending order.
+    */
+    public Binary_Search_Tree(Iterator<T> sorted) {
+        super();
+        if (sorted == null) { throw new NullPointerException("Accessing null iterator"); }
+        Array_List<T> list = new Array_List<>();
+        while (sorted.hasNext()) { list.add(sorted.next()); }
+        Object[] values = list.toArray();
+        checkAscending(values, values.length);
+        root = build(values, 0, values.length);
+    }
+
     // Methods
 
-    /** Tests whether a target value appears in a binary search tree.
-        @param localRoot: a reference to the root node of the binary search tree
-        @param target: the target value to search in the binary search tree
-        @return: {true} if the target value appears in the binary search tree; {false} otherwise
+    /** Checks that the values of an array segment are in strictly ascending order.
+        @param values: the array of values
+        @param count: the number of values at the beginning of the array to check
+        @throws IllegalArgumentException: the values are not in strictly ascending order.
     */
-    private boolean contains(BTNode localRoot, T target) {
-        if (localRoot == null) { return false; }
-        if (target.compareTo(localRoot.data) < 0) { return contains(localRoot.left, target); }
-        else if (target.compareTo(localRoot.data) > 0) { return contains(localRoot.right, target); }
-        else { return true; }
-    }  // Time complexity: O(h)
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> void checkAscending(Object[] values, int count) {
+        for (int i = 1; i < count; i++) {
+            if (((T)values[i - 1]).compareTo((T)values[i]) >= 0) {
+                throw new IllegalArgumentException("Values not in strictly ascending order: " + values[i]);
+            }
+        }
+    }  // Time complexity: O(n)
+
+    /** Builds a perfectly balanced binary search tree from a segment of sorted values.
+        @param values: the values in strictly ascending order
+        @param from: the index of the first value of the segment
+        @param to: the index after the last value of the segment
+        @return: a reference to the root node of the binary search tree
+    */
+    @SuppressWarnings("unchecked")
+    private BTNode build(Object[] values, int from, int to) {
+        if (from >= to) { return null; }
+        int mid = (from + to) >>> 1;
+        return new BTNode((T)values[mid], build(values, from, mid), build(values, mid + 1, to));
+    }  // Time complexity: O(n)  Recursion depth: O(log(n))
+
+    /** Relinks a segment of nodes in inorder into a perfectly balanced binary search tree.
+        @param nodes: the nodes in inorder
+        @param from: the index of the first node of the segment
+        @param to: the index after the last node of the segment
+        @return: a reference to the root node of the binary search tree
+    */
+    @SuppressWarnings("unchecked")
+    private BTNode link(Object[] nodes, int from, int to) {
+        if (from >= to) { return null; }
+        int mid = (from + to) >>> 1;
+        BTNode node = (BTNode)nodes[mid];
+        node.left = link(nodes, from, mid);
+        node.right = link(nodes, mid + 1, to);
+        node.size = to - from;
+        return node;
+    }  // Time complexity: O(n)  Recursion depth: O(log(n))
+
+    /** Rebalances the binary search tree into a perfectly balanced shape, reusing its nodes. */
+    public final void rebalance() {
+        Object[] nodes = new Object[size()];
+        Array_Stack<BTNode> stack = new Array_Stack<>();  // Nodes whose left subtrees are being visited
+        BTNode p = root;
+        int count = 0;
+        while (p != null || !stack.isEmpty()) {
+            while (p != null) {
+                stack.push(p);
+                p = p.left;
+            }
+            p = stack.pop();
+            nodes[count++] = p;
+            p = p.right;
+        }
+        root = link(nodes, 0, count);
+    }  // Time complexity: O(n)
+
+    /** Returns the number of nodes in a subtree.
+        @param node: a reference to the root node of the subtree
+        @return: the number of nodes in the subtree; {0} for a null tree
+    */
+    private int size(BTNode node) { return node == null ? 0 : node.size; }  // Time complexity: O(1)
+
+    /** Returns the size of the binary search tree.
+        @return: the number of values in the binary search tree
+    */
+    public final int size() { return size(root); }  // Time complexity: O(1)
 
     /** Tests whether a target value appears in the binary search tree.
         @param target: the target value to search in the binary search tree
         @return: {true} if the target value appears in the binary search tree; {false} otherwise
     */
-    public final boolean contains(T target) { return contains(root, target); }  // Time complexity: O(h)
-
-    /** Inserts a new value into a binary search tree.
-        @param parent: a reference to the parent node of the local root
-        @param localRoot: a reference to the local root node
-        @param isLeft: {true} if local root is the left child of parent; {false} if it is the right child
-        @param value: the new value to insert into the binary search tree
-        @return: {true} if the new value is inserted; {false} if the new value already exists in the binary search tree.
-    */
-    private boolean insert(BTNode parent, BTNode localRoot, boolean isLeft, T value) {
-        if (localRoot == null) {
-            if (isLeft) { parent.left = new BTNode(value); }
-            else { parent.right = new BTNode(value); }
-            return true;
+    public final boolean contains(T target) {
+        BTNode p = root;
+        while (p != null) {
+            int comparison = target.compareTo(p.data);
+            if (comparison == 0) { return true; }
+            p = comparison < 0 ? p.left : p.right;
         }
-        if (value.compareTo(localRoot.data) < 0) { return insert(localRoot, localRoot.left, true, value); }
-        else if (value.compareTo(localRoot.data) > 0) { return insert(localRoot, localRoot.right, false, value); }
-        else { return false; }
+        return false;
     }  // Time complexity: O(h)
 
     /** Inserts a new value into the binary search tree
@@ -60,142 +151,282 @@ public class Binary_Search_Tree<T extends Comparable<T>> extends Binary_Tree<T>
             root = new BTNode(value);
             return true;
         }
-        if (value.compareTo(get()) < 0) { return insert(root, root.left, true, value); }
-        else if (value.compareTo(get()) > 0) { return insert(root, root.right, false, value); }
-        else { return false; }
-    }  // Time complexity: O(h)
-
-    /** Finds the inorder successor node to replace a node.
-        @param oldParent: a reference to the parent node of the node to replace
-        @param oldRoot: a reference to the node to replace
-        @param isLeft: {true} if old root is the left child of old parent; {false} if it is the right child
-        @param localParent: a reference to the parent node of the local root node
-        @param localRoot: a reference to the local root node
-        @throws NullPointerException: local root node is null.
-    */
-    private void replaceParent(BTNode oldParent, BTNode oldRoot, boolean isLeft, BTNode localParent, BTNode localRoot) {
-        if (localRoot == null) { throw new NullPointerException("Accessing null node"); }
-        if (localRoot.right != null) { replaceParent(oldParent, oldRoot, isLeft, localRoot, localRoot.right); }
-        else {
-            if (isLeft) { oldParent.left = localRoot; }
-            else { oldParent.right = localRoot; }
-            if (localParent != oldRoot) {
-                localParent.right = localRoot.left;
-                localRoot.left = oldRoot.left;
+        BTNode p = root;
+        while (true) {
+            int comparison = value.compareTo(p.data);
+            if (comparison == 0) {  // Already exists: undo the size increments along the path.
+                for (BTNode q = root; q != p; q = value.compareTo(q.data) < 0 ? q.left : q.right) { q.size--; }
+                return false;
+            }
+            p.size++;
+            if (comparison < 0) {
+                if (p.left == null) {
+                    p.left = new BTNode(value);
+                    return true;
+                }
+                p = p.left;
+            } else {
+                if (p.right == null) {
+                    p.right = new BTNode(value);
+                    return true;
+                }
+                p = p.right;
             }
-            localRoot.right = oldRoot.right;
         }
     }  // Time complexity: O(h)
 
-    /** Removes a value from a binary search tree.
-        @param parent: a reference to the parent node of the local root
-        @param localRoot: a reference to the local root node
-        @param isLeft: {true} if local root is the left child of parent; {false} if it is the right child
+    /** Replaces a child node of a parent node.
+        @param parent: a reference to the parent node; or {null} if the child is the root
+        @param child: a reference to the child node to replace
+        @param replacement: a reference to the node taking the place of the child
+    */
+    private void replaceChild(BTNode parent, BTNode child, BTNode replacement) {
+        if (parent == null) { root = replacement; }
+        else if (parent.left == child) { parent.left = replacement; }
+        else { parent.right = replacement; }
+    }  // Time complexity: O(1)
+
+    /** Removes a value from the binary search tree.
         @param value: the value to remove from the binary search tree
         @return: {true} if the value is removed; {false} if the value does not exist in the binary search tree.
     */
-    private boolean remove(BTNode parent, BTNode localRoot, boolean isLeft, T value) {
+    public final boolean remove(T value) {
+        BTNode parent = null, localRoot = root;
+        while (localRoot != null) {
+            int comparison = value.compareTo(localRoot.data);
+            if (comparison == 0) { break; }
+            parent = localRoot;
+            localRoot = comparison < 0 ? localRoot.left : localRoot.right;
+        }
         if (localRoot == null) { return false; }
-        if (value.compareTo(localRoot.data) < 0) { return remove(localRoot, localRoot.left, true, value); }
-        else if (value.compareTo(localRoot.data) > 0) { return remove(localRoot, localRoot.right, false, value); }
-        else {
-            if (localRoot.left == null) {
-                if (isLeft) { parent.left = localRoot.right; }
-                else { parent.right = localRoot.right; }
-            } else if (localRoot.right == null) {
-                if (isLeft) { parent.left = localRoot.left; }
-                else { parent.right = localRoot.left; }
-            } else { replaceParent(parent, localRoot, isLeft, localRoot, localRoot.left); }
-            return true;
+        for (BTNode q = root; q != localRoot; q = value.compareTo(q.data) < 0 ? q.left : q.right) { q.size--; }
+        if (localRoot.left == null) { replaceChild(parent, localRoot, localRoot.right); }
+        else if (localRoot.right == null) { replaceChild(parent, localRoot, localRoot.left); }
+        else {  // Replace the node with its inorder predecessor (the maximum of the left subtree).
+            BTNode predecessorParent = localRoot, predecessor = localRoot.left;
+            while (predecessor.right != null) {
+                predecessor.size--;  // The predecessor leaves this subtree.
+                predecessorParent = predecessor;
+                predecessor = predecessor.right;
+            }
+            if (predecessorParent != localRoot) {
+                predecessorParent.right = predecessor.left;
+                predecessor.left = localRoot.left;
+            }
+            predecessor.right = localRoot.right;
+            predecessor.size = localRoot.size - 1;
+            replaceChild(parent, localRoot, predecessor);
         }
+        return true;
     }  // Time complexity: O(h)
 
-    /** Removes a value from the binary search tree.
-        @param value: the value to remove from the binary search tree
-        @return: {true} if the value is removed; {false} if the value does not exist in the binary search tree.
+    /** Returns the k-th smallest value in the binary search tree.
+        @param k: the number of values smaller than the value to return (0-based)
+        @return: the k-th smallest value in the binary search tree
+        @throws IndexOutOfBoundsException: k < 0 or k >= size()
     */
-    public final boolean remove(T value) {
-        if (isNull()) { return false; }
-        if (value.compareTo(get()) < 0) { return remove(root, root.left, true, value); }
-        else if (value.compareTo(get()) > 0) { return remove(root, root.right, false, value); }
-        else {
-            if (root.left == null) { root = root.right; }
-            else if (root.right == null) { root = root.left; }
+    public final T select(int k) {
+        if (k < 0 || k >= size()) { throw new IndexOutOfBoundsException("Index out of bounds: " + k); }
+        BTNode p = root;
+        while (true) {
+            int leftSize = size(p.left);
+            if (k == leftSize) { return p.data; }
+            if (k < leftSize) { p = p.left; }
             else {
-                BTNode parent = root, localRoot = root.left;
-                while (localRoot.right != null) {
-                    parent = localRoot;
-                    localRoot = localRoot.right;
-                }
-                parent.right = localRoot.left;
-                localRoot.left = root.left;
-                localRoot.right = root.right;
-                root = localRoot;
+                k -= leftSize + 1;
+                p = p.right;
             }
-            return true;
         }
     }  // Time complexity: O(h)
 
+    /** Counts the values smaller than (or equal to) a key.
+        @param key: the key to compare the values with
+        @param inclusive: {true} to also count a value equal to the key
+        @return: the number of values smaller than (or equal to) the key
+    */
+    private int countBelow(T key, boolean inclusive) {
+        int count = 0;
+        BTNode p = root;
+        while (p != null) {
+            int comparison = key.compareTo(p.data);
+            if (comparison < 0) { p = p.left; }
+            else if (comparison > 0) {
+                count += size(p.left) + 1;
+                p = p.right;
+            } else { return count + size(p.left) + (inclusive ? 1 : 0); }
+        }
+        return count;
+    }  // Time complexity: O(h)
+
+    /** Returns the rank of a key in the binary search tree.
+        @param key: the key to rank (it does not need to appear in the binary search tree)
+        @return: the number of values smaller than the key
+    */
+    public final int rank(T key) { return countBelow(key, false); }  // Time complexity: O(h)
+
+    /** Counts the values within a range.
+        @param lo: the lower bound of the range (inclusive)
+        @param hi: the upper bound of the range (inclusive)
+        @return: the number of values v with lo <= v <= hi; {0} if lo > hi
+    */
+    public final int countInRange(T lo, T hi) {
+        if (lo.compareTo(hi) > 0) { return 0; }
+        return countBelow(hi, true) - countBelow(lo, false);
+    }  // Time complexity: O(h)
+
+    /** Returns the greatest value not greater than a key.
+        @param key: the key to compare the values with
+        @return: the greatest value v with v <= key; or {null} if there is no such value
+    */
+    public final T floor(T key) {
+        T result = null;
+        BTNode p = root;
+        while (p != null) {
+            int comparison = key.compareTo(p.data);
+            if (comparison == 0) { return p.data; }
+            if (comparison < 0) { p = p.left; }
+            else {
+                result = p.data;
+                p = p.right;
+            }
+        }
+        return result;
+    }  // Time complexity: O(h)
+
+    /** Returns the least value not less than a key.
+        @param key: the key to compare the values with
+        @return: the least value v with v >= key; or {null} if there is no such value
+    */
+    public final T ceiling(T key) {
+        T result = null;
+        BTNode p = root;
+        while (p != null) {
+            int comparison = key.compareTo(p.data);
+            if (comparison == 0) { return p.data; }
+            if (comparison > 0) { p = p.right; }
+            else {
+                result = p.data;
+                p = p.left;
+            }
+        }
+        return result;
+    }  // Time complexity: O(h)
+
+    /** Returns the greatest value less than a key.
+        @param key: the key to compare the values with
+        @return: the greatest value v with v < key; or {null} if there is no such value
+    */
+    public final T lower(T key) {
+        T result = null;
+        BTNode p = root;
+        while (p != null) {
+            if (key.compareTo(p.data) <= 0) { p = p.left; }
+            else {
+                result = p.data;
+                p = p.right;
+            }
+        }
+        return result;
+    }  // Time complexity: O(h)
+
+    /** Returns the least value greater than a key.
+        @param key: the key to compare the values with
+        @return: the least value v with v > key; or {null} if there is no such value
+    */
+    public final T higher(T key) {
+        T result = null;
+        BTNode p = root;
+        while (p != null) {
+            if (key.compareTo(p.data) >= 0) { p = p.right; }
+            else {
+                result = p.data;
+                p = p.left;
+            }
+        }
+        return result;
+    }  // Time complexity: O(h)
+
+    /** An in-order iterator over the values within a range of the binary search tree */
+    private final class BST_Iterator implements Iterator<T> {
+        // Data fields
+        private final Linked_List_Stack<BTNode> stack = new Linked_List_Stack<>();  // Nodes along the path
+        private final T hi;  // The upper bound of the range (inclusive); or {null} for no upper bound
+
+        // Constructors
+
+        /** Creates an iterator positioned at the least value not less than the lower bound.
+            @param lo: the lower bound of the range (inclusive); or {null} for no lower bound
+            @param hi: the upper bound of the range (inclusive); or {null} for no upper bound
+        */
+        BST_Iterator(T lo, T hi) {
+            this.hi = hi;
+            BTNode p = root;
+            while (p != null) {  // Push the nodes not less than the lower bound along the search path.
+                if (lo == null || lo.compareTo(p.data) <= 0) {
+                    stack.push(p);
+                    p = p.left;
+                } else { p = p.right; }
+            }
+        }
+
+        // Methods
+
+        /** Pushes all the left nodes onto the stack.
+            @param node: the initial binary search tree node
+        */
+        private void pushAllLeft(BTNode node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }  // Time complexity: O(h)
+
+        /** Tests whether there exists a next value in the range.
+            @return: {true} if there exists a next value; {false} if the iterator is at the end of the range
+        */
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty() && (hi == null || stack.peek().data.compareTo(hi) <= 0);
+        }  // Time complexity: O(1)
+
+        /** Moves the iterator forward one position and returns the value passed by.
+            @return: the value passed by during the iterator movement
+            @throws NoSuchElementException: the iterator is at the end of the range.
+        */
+        @Override
+        public T next() {
+            if (!hasNext()) { throw new NoSuchElementException("Accessing null reference"); }
+            BTNode node = stack.pop();
+            if (node.right != null) { pushAllLeft(node.right); }
+            return node.data;
+        }  // Time complexity: O(h)
+
+        /** Removes the next value at iterator position.
+            @return: the value removed
+            @throws NoSuchElementException: the iterator is at the end of the range.
+        */
+        @Override
+        public T removeNext() {
+            T value = next();
+            remove(value);
+            return value;
+        }  // Time complexity: O(h)
+    }
+
     /** Generates an iterator positioned at the beginning of the binary search tree.
         @return: an iterator positioned at the beginning of the binary search tree
     */
-    public final Iterator<T> iterator() {
-        return new Iterator<T>() {
-            // Data field
-            private final Linked_List_Stack<BTNode> stack = initialize();  // Nodes along the path
-
-            // Methods
-
-            /** Initializes the stack for the binary search tree iterator.
-                @return: the initial stack for the binary search tree iterator
-            */
-            private Linked_List_Stack<BTNode> initialize() {
-                Linked_List_Stack<BTNode> stack = new Linked_List_Stack<>();
-                pushAllLeft(root, stack);
-                return stack;
-            }  // Time complexity: O(h)
-
-            /** Pushes all the left nodes onto a stack.
-                @param node: the initial binary search tree node
-                @param stack: the stack to store the nodes
-            */
-            private void pushAllLeft(BTNode node, Linked_List_Stack<BTNode> stack) {
-                while (node != null) {
-                    stack.push(node);
-                    node = node.left;
-                }
-            }  // Time complexity: O(h)
-
-            /** Tests whether there exists a next value in the binary search tree.
-                @return: {true} if there exists a next value; {false} if the iterator is at the end of the tree
-            */
-            @Override
-            public boolean hasNext() { return !stack.isEmpty(); }  // Time complexity: O(1)
-
-            /** Moves the iterator forward one position and returns the value passed by.
-                @return: the value passed by during the iterator movement
-                @throws NoSuchElementException: the iterator is at the end of the binary search tree.
-            */
-            @Override
-            public T next() {
-                if (!hasNext()) { throw new NoSuchElementException("Accessing null reference"); }
-                BTNode node = stack.pop();
-                if (node.right != null) { pushAllLeft(node.right, stack); }
-                return node.data;
-            }  // Time complexity: O(h)
-
-            /** Removes the next value at iterator position.
-                @return: the value removed
-                @throws NoSuchElementException: the iterator is at the end of the binary search tree.
-            */
-            @Override
-            public T removeNext() {
-                if (!hasNext()) { throw new NoSuchElementException("Accessing null reference"); }
-                BTNode node = stack.pop();
-                if (node.right != null) { pushAllLeft(node.right, stack); }
-                remove(node.data);
-                return node.data;
-            }  // Time complexity: O(h)
-        };
-    }  // Time complexity: O(1)
+    @Override
+    public final Iterator<T> iterator() { return new BST_Iterator(null, null); }  // Time complexity: O(h)
+
+    /** Generates an iterator over the values within a range, in ascending order.
+        @param lo: the lower bound of the range (inclusive)
+        @param hi: the upper bound of the range (inclusive)
+        @return: an iterator positioned at the least value not less than the lower bound
+        @throws NullPointerException: either bound is null.
+    */
+    public final Iterator<T> rangeIterator(T lo, T hi) {
+        if (lo == null || hi == null) { throw new NullPointerException("Accessing null bound"); }
+        return new BST_Iterator(lo, hi);
+    }  // Time complexity: O(h)
 }
\ No newline at end of file
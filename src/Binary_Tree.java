@@ -1,6 +1,6 @@
 // Created by Dayu Wang (dwang@stchas.edu) on 2025-06-27
 
-// Last updated by Dayu Wang (dwang@stchas.edu) on 2025-06-28
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
 
 
 import java.util.NoSuchElementException;
@@ -13,6 +13,7 @@ public class Binary_Tree<T> {
         T data;  // The data stored in the node
         BTNode left;  // A reference to the left child node
         BTNode right;  // A reference to the right child node
+        int size = 1;  // The number of nodes in the subtree rooted at this node
 
         // Constructors
 
@@ -22,6 +23,8 @@ public class Binary_Tree<T> {
             this.data = data;
             this.left = left;
             this.right = right;
+            if (left != null) { size += left.size; }
+            if (right != null) { size += right.size; }
         }
     }
 
@@ -47,7 +50,28 @@ public class Binary_Tree<T> {
     */
     private BTNode copy(BTNode root) {
         if (root == null) { return null; }
-        return new BTNode(root.data, copy(root.left), copy(root.right));
+        BTNode newRoot = new BTNode(root.data);
+        newRoot.size = root.size;
+        // Pairs of (original node, copied node) whose children are still to copy
+        Array_Stack<BTNode> originals = new Array_Stack<>(), copies = new Array_Stack<>();
+        originals.push(root);
+        copies.push(newRoot);
+        while (!originals.isEmpty()) {
+            BTNode original = originals.pop(), copy = copies.pop();
+            if (original.left != null) {
+                copy.left = new BTNode(original.left.data);
+                copy.left.size = original.left.size;
+                originals.push(original.left);
+                copies.push(copy.left);
+            }
+            if (original.right != null) {
+                copy.right = new BTNode(original.right.data);
+                copy.right.size = original.right.size;
+                originals.push(original.right);
+                copies.push(copy.right);
+            }
+        }
+        return newRoot;
     }  // Time complexity: O(n)
 
     /** Tests whether the binary tree is a null tree.
@@ -1,6 +1,6 @@
 // Created by Dayu Wang (dwang@stchas.edu) on 2022-07-01
 
-// Last updated by Dayu Wang (dwang@stchas.edu) on 2025-06-27
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
 
 
 import java.util.Arrays;
@@ -14,11 +14,16 @@ public class Circular_Array_Queue<T> {
     private int numOfItems;  // Number of values in the queue
     private int frontIndex;  // The index of the value at the front end of the queue
     private int rearIndex;  // The index of the value at the rear end of the queue
+    private final Growth_Policy policy;  // How the capacity of the array grows and shrinks
     private static final int DEFAULT_CAPACITY = 10;  // Default capacity for an empty array
 
     // Constructors
 
-    public Circular_Array_Queue() {  // Default constructor
+    public Circular_Array_Queue() { this(Growth_Policy.DOUBLING); }  // Default constructor
+
+    public Circular_Array_Queue(Growth_Policy policy) {  // Constructor with a growth policy
+        if (policy == null) { throw new NullPointerException("Accessing null growth policy"); }
+        this.policy = policy;
         capacity = DEFAULT_CAPACITY;
         data = new Object[capacity];
         rearIndex = -1;
@@ -26,6 +31,7 @@ public class Circular_Array_Queue<T> {
 
     public Circular_Array_Queue(Circular_Array_Queue<T> other) {  // Copy constructor
         if (other == null) { throw new NullPointerException("Accessing null queue"); }
+        policy = other.policy;
         capacity = other.capacity;
         numOfItems = other.numOfItems;
         frontIndex = other.frontIndex;
@@ -63,23 +69,52 @@ public class Circular_Array_Queue<T> {
     public final T poll() {
         if (isEmpty()) { throw new NoSuchElementException("Accessing empty queue"); }
         T toBeRemoved = (T)data[frontIndex];
+        data[frontIndex] = null;  // Release the reference for garbage collection.
         if (numOfItems-- == 1) {
             frontIndex = 0;
             rearIndex = -1;
         } else { frontIndex = (frontIndex + 1) % capacity; }
+        shrink();
         return toBeRemoved;
-    }  // Time complexity: O(1)
+    }  // Time complexity: O(1) amortized
 
-    /** Doubles the capacity of the array and rearranges the values in the queue. */
-    private void reserve() {
-        capacity *= 2;
-        Object[] newData = new Object[capacity];
-        for (int i = 0, k = frontIndex; i < size(); i++, k = (k + 1) % (capacity / 2)) { newData[i] = data[k]; }
+    /** Reallocates the array with a new capacity and rearranges the values in the queue.
+        @param newCapacity: the new capacity (not less than the size)
+    */
+    private void resize(int newCapacity) {
+        Object[] newData = new Object[newCapacity];
+        int firstPart = Math.min(size(), capacity - frontIndex);  // Values from the front index to the array end
+        System.arraycopy(data, frontIndex, newData, 0, firstPart);
+        System.arraycopy(data, 0, newData, firstPart, size() - firstPart);  // Values wrapped around
         data = newData;
+        capacity = newCapacity;
         frontIndex = 0;
         rearIndex = size() - 1;
     }  // Time complexity: O(n)
 
+    /** Grows the capacity of the array according to the growth policy and rearranges the values in the queue. */
+    private void reserve() { resize(policy.grow(capacity, capacity + 1L)); }  // Time complexity: O(n)
+
+    /** Increases the capacity (if necessary) to exactly hold a minimum number of values.
+        @param minCapacity: the minimum number of values the queue must be able to hold
+        @throws OutOfMemoryError: the capacity exceeds the maximum array length.
+    */
+    public final void ensureCapacity(int minCapacity) {
+        if (minCapacity > Growth_Policy.MAX_CAPACITY) { throw new OutOfMemoryError("Required array length too large: " + minCapacity); }
+        if (minCapacity > capacity) { resize(minCapacity); }
+    }  // Time complexity: O(n)
+
+    /** Reduces the capacity of the array to the size of the queue. */
+    public final void trimToSize() {
+        if (capacity > size()) { resize(size()); }
+    }  // Time complexity: O(n)
+
+    /** Shrinks the array if the growth policy finds it sparse. */
+    private void shrink() {
+        int newCapacity = policy.shrink(capacity, size());
+        if (newCapacity < capacity) { resize(newCapacity); }
+    }  // Time complexity: O(n) when shrinking; O(1) otherwise
+
     /** Inserts a new value to the rear end of the queue.
         @param value: the new value to insert to the queue
     */
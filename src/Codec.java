@@ -0,0 +1,64 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.nio.ByteBuffer;
+
+/** A fixed-width binary encoding of values */
+public interface Codec<T> {
+    /** Returns the number of bytes of an encoded value.
+        @return: the number of bytes of an encoded value (> 0)
+    */
+    int width();
+
+    /** Writes a value into a buffer.
+        @param buffer: the buffer to write into
+        @param offset: the absolute index in the buffer to write the first byte
+        @param value: the value to encode
+    */
+    void encode(ByteBuffer buffer, int offset, T value);
+
+    /** Reads a value from a buffer.
+        @param buffer: the buffer to read from
+        @param offset: the absolute index in the buffer of the first byte
+        @return: the decoded value
+    */
+    T decode(ByteBuffer buffer, int offset);
+
+    /** Encodes an Integer in 4 bytes */
+    Codec<Integer> INT = new Codec<Integer>() {
+        @Override
+        public int width() { return Integer.BYTES; }
+
+        @Override
+        public void encode(ByteBuffer buffer, int offset, Integer value) { buffer.putInt(offset, value); }
+
+        @Override
+        public Integer decode(ByteBuffer buffer, int offset) { return buffer.getInt(offset); }
+    };
+
+    /** Encodes a Long in 8 bytes */
+    Codec<Long> LONG = new Codec<Long>() {
+        @Override
+        public int width() { return Long.BYTES; }
+
+        @Override
+        public void encode(ByteBuffer buffer, int offset, Long value) { buffer.putLong(offset, value); }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+    };
+
+    /** Encodes a Double in 8 bytes */
+    Codec<Double> DOUBLE = new Codec<Double>() {
+        @Override
+        public int width() { return Double.BYTES; }
+
+        @Override
+        public void encode(ByteBuffer buffer, int offset, Double value) { buffer.putDouble(offset, value); }
+
+        @Override
+        public Double decode(ByteBuffer buffer, int offset) { return buffer.getDouble(offset); }
+    };
+}
\ No newline at end of file
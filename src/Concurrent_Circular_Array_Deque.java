@@ -0,0 +1,119 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** A work-stealing deque implemented by circular array (Chase-Lev)
+    One owner thread inserts and removes values at the rear end without locks, as with a stack of tasks;
+    any other thread may steal the value at the front end, competing by CAS on the front index.
+    The front and rear indices are ever-increasing positions; a position maps to the array slot (position & mask).
+*/
+public class Concurrent_Circular_Array_Deque<T> {
+    // Data fields
+    private volatile Object[] data;  // The values stored in the deque (the length is a power of two)
+    private final AtomicLong frontIndex = new AtomicLong();  // The position of the value at the front end
+    private volatile long rearIndex;  // The position after the value at the rear end (written by the owner only)
+    private static final int DEFAULT_CAPACITY = 16;  // Default capacity for an empty array
+    private static final int MAX_CAPACITY = 1 << 30;  // Largest power-of-two array length
+
+    // Constructors
+
+    public Concurrent_Circular_Array_Deque() { this(DEFAULT_CAPACITY); }  // Default constructor
+
+    /** Creates an empty deque.
+        @param initialCapacity: the initial capacity of the array (rounded up to a power of two)
+        @throws IllegalArgumentException: initialCapacity < 1 or initialCapacity > 2 ^ 30
+    */
+    public Concurrent_Circular_Array_Deque(int initialCapacity) {
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        data = new Object[initialCapacity == 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1];
+    }
+
+    // Methods
+
+    /** Returns the size of the deque (a snapshot that may be stale under concurrent updates).
+        @return: the size of the deque
+    */
+    public final int size() {
+        long rear = rearIndex;
+        return (int)Math.max(0, rear - frontIndex.get());
+    }  // Time complexity: O(1)
+
+    /** Tests whether the deque is empty or not (a snapshot that may be stale under concurrent updates).
+        @return: {true} if the deque is empty; {false} otherwise
+    */
+    public final boolean isEmpty() { return size() == 0; }  // Time complexity: O(1)
+
+    /** Doubles the capacity of the array (owner thread only).
+        The values keep their positions, so thieves still reading the old array see the same values.
+        @param array: the current array
+        @param front: the front index observed by the owner
+        @param rear: the rear index
+        @return: the new array
+        @throws OutOfMemoryError: the array already has the maximum capacity.
+    */
+    private Object[] reserve(Object[] array, long front, long rear) {
+        if (array.length == MAX_CAPACITY) { throw new OutOfMemoryError("Deque too large: " + array.length); }
+        Object[] newData = new Object[array.length * 2];
+        for (long i = front; i < rear; i++) { newData[(int)i & (newData.length - 1)] = array[(int)i & (array.length - 1)]; }
+        data = newData;  // Published before the rear index moves past the values.
+        return newData;
+    }  // Time complexity: O(n)
+
+    /** Inserts a new value to the rear end of the deque (owner thread only).
+        @param value: the new value to insert to the deque
+        @throws NullPointerException: the value is null.
+    */
+    public final void offerLast(T value) {
+        if (value == null) { throw new NullPointerException("Accessing null value"); }
+        long rear = rearIndex;
+        Object[] array = data;
+        if (rear - frontIndex.get() >= array.length) { array = reserve(array, frontIndex.get(), rear); }
+        array[(int)rear & (array.length - 1)] = value;
+        rearIndex = rear + 1;  // Publishes the value to the thieves.
+    }  // Time complexity: O(1) amortized
+
+    /** Removes the value at the rear end of the deque (owner thread only).
+        @return: the value removed; or {null} if the deque is empty
+    */
+    @SuppressWarnings("unchecked")
+    public final T pollLast() {
+        long rear = rearIndex - 1;
+        Object[] array = data;
+        rearIndex = rear;  // Reserves the rear value before looking at the front index (volatile write, then read).
+        long front = frontIndex.get();
+        if (front > rear) {  // Empty
+            rearIndex = rear + 1;
+            return null;
+        }
+        int slot = (int)rear & (array.length - 1);
+        T toBeRemoved = (T)array[slot];
+        if (front == rear) {  // The last value: race against the thieves for it.
+            if (!frontIndex.compareAndSet(front, front + 1)) { toBeRemoved = null; }
+            rearIndex = rear + 1;
+            return toBeRemoved;
+        }
+        array[slot] = null;  // No thief can reach this slot any more: release the reference.
+        return toBeRemoved;
+    }  // Time complexity: O(1)
+
+    /** Steals the value at the front end of the deque (any thread).
+        @return: the value removed; or {null} if the deque is empty
+    */
+    @SuppressWarnings("unchecked")
+    public final T pollFirst() {
+        while (true) {
+            long front = frontIndex.get();
+            long rear = rearIndex;
+            if (front >= rear) { return null; }
+            Object[] array = data;
+            T toBeRemoved = (T)array[(int)front & (array.length - 1)];
+            if (frontIndex.compareAndSet(front, front + 1)) { return toBeRemoved; }
+            // Another thief (or the owner taking the last value) won: retry with the new front index.
+        }
+    }  // Time complexity: O(1) without contention
+}
\ No newline at end of file
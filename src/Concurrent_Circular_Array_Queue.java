@@ -0,0 +1,265 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/** A bounded lock-free queue implemented by circular array
+    The front and rear indices are ever-increasing positions; a position maps to the array slot (position & mask).
+    SPSC mode allows one producer thread and one consumer thread; MPMC mode allows any number of both and tags
+    each slot with a sequence number telling which position (and which lap around the array) it is ready for.
+*/
+public class Concurrent_Circular_Array_Queue<T> {
+    /** The threads allowed to use the queue */
+    public enum Mode {
+        SPSC,  // Single producer, single consumer
+        MPMC  // Multiple producers, multiple consumers
+    }
+
+    /** The padding in front of an index (the fields of a superclass are laid out before those of its subclasses) */
+    private static class Index_Padding {
+        long p1, p2, p3, p4, p5, p6, p7;  // Padding
+    }
+
+    /** The fields of an index, preceded by the padding of the superclass */
+    private static class Index_Fields extends Index_Padding {
+        volatile long value;  // The position
+        long cache;  // The last observed value of the opposite index (read and written by the owning side only)
+    }
+
+    /** An index padded on both sides, so that the producer and consumer indices never share a cache line
+        with each other or with the objects allocated next to them
+    */
+    private static final class Padded_Index extends Index_Fields {
+        // Data fields
+        long q1, q2, q3, q4, q5, q6, q7;  // Padding
+        private static final AtomicLongFieldUpdater<Index_Fields> VALUE = AtomicLongFieldUpdater.newUpdater(Index_Fields.class, "value");
+
+        // Methods
+
+        /** Returns the position.
+            @return: the position
+        */
+        long get() { return value; }  // Time complexity: O(1)
+
+        /** Sets the position without waiting for the write to become visible to other threads.
+            @param newValue: the new position
+        */
+        void lazySet(long newValue) { VALUE.lazySet(this, newValue); }  // Time complexity: O(1)
+
+        /** Sets the position if it still has an expected value.
+            @param expect: the expected position
+            @param update: the new position
+            @return: {true} if the position is updated; {false} if it did not have the expected value
+        */
+        boolean compareAndSet(long expect, long update) { return VALUE.compareAndSet(this, expect, update); }  // Time complexity: O(1)
+    }
+
+    // Data fields
+    private final Object[] data;  // The values stored in the queue
+    private final int capacity;  // The capacity of the array (a power of two)
+    private final int mask;  // capacity - 1
+    private final Mode mode;  // The threads allowed to use the queue
+    private final AtomicLongArray sequences;  // MPMC only: the position each slot is ready for
+    private final Padded_Index frontIndex = new Padded_Index();  // The position of the value at the front end
+    private final Padded_Index rearIndex = new Padded_Index();  // The position after the value at the rear end
+
+    // Constructors
+
+    /** Creates an empty queue.
+        @param capacity: the minimum number of values the queue can hold (rounded up to a power of two, at least 2)
+        @param mode: the threads allowed to use the queue
+        @throws IllegalArgumentException: capacity < 1 or capacity > 2 ^ 30
+        @throws NullPointerException: the mode is null.
+    */
+    public Concurrent_Circular_Array_Queue(int capacity, Mode mode) {
+        if (capacity < 1 || capacity > 1 << 30) { throw new IllegalArgumentException("Illegal capacity: " + capacity); }
+        if (mode == null) { throw new NullPointerException("Accessing null mode"); }
+        this.capacity = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mode = mode;
+        mask = this.capacity - 1;
+        data = new Object[this.capacity];
+        if (mode == Mode.MPMC) {
+            sequences = new AtomicLongArray(this.capacity);
+            for (int i = 0; i < this.capacity; i++) { sequences.set(i, i); }
+        } else { sequences = null; }
+    }
+
+    // Methods
+
+    /** Returns the capacity of the queue.
+        @return: the maximum number of values the queue can hold
+    */
+    public final int capacity() { return capacity; }  // Time complexity: O(1)
+
+    /** Returns the size of the queue (a snapshot that may be stale under concurrent updates).
+        @return: the size of the queue
+    */
+    public final int size() {
+        long front = frontIndex.get();
+        long rear = rearIndex.get();
+        return (int)Math.max(0, Math.min(capacity, rear - front));
+    }  // Time complexity: O(1)
+
+    /** Tests whether the queue is empty or not (a snapshot that may be stale under concurrent updates).
+        @return: {true} if the queue is empty; {false} otherwise
+    */
+    public final boolean isEmpty() { return size() == 0; }  // Time complexity: O(1)
+
+    /** Inserts a new value to the rear end of the queue.
+        @param value: the new value to insert to the queue
+        @return: {true} if the value is inserted; {false} if the queue is full
+        @throws NullPointerException: the value is null.
+    */
+    public final boolean offer(T value) {
+        if (value == null) { throw new NullPointerException("Accessing null value"); }
+        return mode == Mode.SPSC ? offerSingle(value) : offerMulti(value);
+    }  // Time complexity: O(1)
+
+    /** Removes the value at the front end of the queue.
+        @return: the value removed; or {null} if the queue is empty
+    */
+    public final T poll() { return mode == Mode.SPSC ? pollSingle() : pollMulti(); }  // Time complexity: O(1)
+
+    /** Inserts the values of an array segment to the rear end of the queue, as many as fit.
+        In SPSC mode the whole batch is published with a single ordered write.
+        @param values: the array holding the new values
+        @param from: the index of the first value to insert
+        @param count: the number of values to insert
+        @return: the number of values inserted (a prefix of the segment)
+        @throws NullPointerException: the array or one of the values is null.
+        @throws IndexOutOfBoundsException: the segment is out of the array bounds.
+    */
+    public final int offer(T[] values, int from, int count) {
+        if (values == null) { throw new NullPointerException("Accessing null array"); }
+        if (from < 0 || count < 0 || from > values.length - count) {
+            throw new IndexOutOfBoundsException("Range out of bounds: [" + from + ", " + (from + count) + ")");
+        }
+        for (int i = from; i < from + count; i++) {
+            if (values[i] == null) { throw new NullPointerException("Accessing null value"); }
+        }
+        if (mode == Mode.MPMC) {
+            int inserted = 0;
+            while (inserted < count && offerMulti(values[from + inserted])) { inserted++; }
+            return inserted;
+        }
+        long rear = rearIndex.get();
+        int inserted = (int)Math.min(count, capacity - (rear - rearIndex.cache));
+        if (inserted < count) {
+            rearIndex.cache = frontIndex.get();
+            inserted = (int)Math.min(count, capacity - (rear - rearIndex.cache));
+        }
+        for (int i = 0; i < inserted; i++) { data[(int)(rear + i) & mask] = values[from + i]; }
+        if (inserted > 0) { rearIndex.lazySet(rear + inserted); }
+        return inserted;
+    }  // Time complexity: O(k)
+
+    /** Removes values from the front end of the queue and appends them to an array list.
+        In SPSC mode the whole batch is released with a single ordered write.
+        @param target: the array list receiving the values
+        @param max: the maximum number of values to remove
+        @return: the number of values removed
+        @throws NullPointerException: the array list is null.
+    */
+    @SuppressWarnings("unchecked")
+    public final int drainTo(Array_List<T> target, int max) {
+        if (target == null) { throw new NullPointerException("Accessing null array list"); }
+        if (mode == Mode.MPMC) {
+            int removed = 0;
+            T value;
+            while (removed < max && (value = pollMulti()) != null) {
+                target.add(value);
+                removed++;
+            }
+            return removed;
+        }
+        long front = frontIndex.get();
+        int removed = (int)Math.max(0, Math.min(max, frontIndex.cache - front));
+        if (removed < max) {
+            frontIndex.cache = rearIndex.get();
+            removed = (int)Math.max(0, Math.min(max, frontIndex.cache - front));
+        }
+        for (int i = 0; i < removed; i++) {
+            int slot = (int)(front + i) & mask;
+            target.add((T)data[slot]);
+            data[slot] = null;  // Release the reference for garbage collection.
+        }
+        if (removed > 0) { frontIndex.lazySet(front + removed); }
+        return removed;
+    }  // Time complexity: O(k)
+
+    /** Inserts a new value in SPSC mode (producer thread only).
+        @param value: the new value to insert to the queue
+        @return: {true} if the value is inserted; {false} if the queue is full
+    */
+    private boolean offerSingle(T value) {
+        long rear = rearIndex.get();
+        if (rear - rearIndex.cache >= capacity) {  // Full as far as the cached front index tells
+            rearIndex.cache = frontIndex.get();
+            if (rear - rearIndex.cache >= capacity) { return false; }
+        }
+        data[(int)rear & mask] = value;
+        rearIndex.lazySet(rear + 1);  // Publishes the value to the consumer.
+        return true;
+    }  // Time complexity: O(1)
+
+    /** Removes the value at the front end in SPSC mode (consumer thread only).
+        @return: the value removed; or {null} if the queue is empty
+    */
+    @SuppressWarnings("unchecked")
+    private T pollSingle() {
+        long front = frontIndex.get();
+        if (front >= frontIndex.cache) {  // Empty as far as the cached rear index tells
+            frontIndex.cache = rearIndex.get();
+            if (front >= frontIndex.cache) { return null; }
+        }
+        int slot = (int)front & mask;
+        T toBeRemoved = (T)data[slot];
+        data[slot] = null;  // Release the reference for garbage collection.
+        frontIndex.lazySet(front + 1);  // Hands the slot back to the producer.
+        return toBeRemoved;
+    }  // Time complexity: O(1)
+
+    /** Inserts a new value in MPMC mode.
+        @param value: the new value to insert to the queue
+        @return: {true} if the value is inserted; {false} if the queue is full
+    */
+    private boolean offerMulti(T value) {
+        while (true) {
+            long rear = rearIndex.get();
+            int slot = (int)rear & mask;
+            long difference = sequences.get(slot) - rear;
+            if (difference == 0) {  // The slot is free for this lap: try to claim the position.
+                if (rearIndex.compareAndSet(rear, rear + 1)) {
+                    data[slot] = value;
+                    sequences.lazySet(slot, rear + 1);  // Publishes the value to the consumers.
+                    return true;
+                }
+            } else if (difference < 0) { return false; }  // The slot still holds a value from the previous lap.
+            // Otherwise another producer claimed the position first: retry with the new rear index.
+        }
+    }  // Time complexity: O(1) without contention
+
+    /** Removes the value at the front end in MPMC mode.
+        @return: the value removed; or {null} if the queue is empty
+    */
+    @SuppressWarnings("unchecked")
+    private T pollMulti() {
+        while (true) {
+            long front = frontIndex.get();
+            int slot = (int)front & mask;
+            long difference = sequences.get(slot) - (front + 1);
+            if (difference == 0) {  // The slot holds the value for this position: try to claim it.
+                if (frontIndex.compareAndSet(front, front + 1)) {
+                    T toBeRemoved = (T)data[slot];
+                    data[slot] = null;  // Release the reference for garbage collection.
+                    sequences.lazySet(slot, front + capacity);  // Hands the slot to the producers of the next lap.
+                    return toBeRemoved;
+                }
+            } else if (difference < 0) { return null; }  // The value for this position is not published yet.
+            // Otherwise another consumer claimed the position first: retry with the new front index.
+        }
+    }  // Time complexity: O(1) without contention
+}
\ No newline at end of file
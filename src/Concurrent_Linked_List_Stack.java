@@ -0,0 +1,78 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/** A lock-free stack implemented by singly-linked list (Treiber stack)
+    push and pop swing the top reference by CAS; a thread whose CAS fails because of contention reads the new top
+    and retries.
+*/
+public class Concurrent_Linked_List_Stack<T> {
+    /** A singly-linked list node */
+    private final class Node {
+        // Data fields
+        final T data;  // The data stored in the node
+        Node next;  // A reference to the next node in the list (fixed once the node is published)
+
+        // Constructors
+
+        Node(T data) { this.data = data; }
+    }
+
+    // Data fields
+    private final AtomicReference<Node> top = new AtomicReference<>();  // A reference to the top node of the stack
+
+    // Constructors
+
+    public Concurrent_Linked_List_Stack() {}  // Default constructor
+
+    // Methods
+
+    /** Returns the size of the stack (a snapshot that may be stale under concurrent updates).
+        @return: the size of the stack
+    */
+    public final int size() {
+        int count = 0;
+        for (Node p = top.get(); p != null; p = p.next) { count++; }
+        return count;
+    }  // Time complexity: O(n)
+
+    /** Tests whether the stack is empty or not (a snapshot that may be stale under concurrent updates).
+        @return: {true} if the stack is empty; {false} otherwise
+    */
+    public final boolean isEmpty() { return top.get() == null; }  // Time complexity: O(1)
+
+    /** Returns the value at the top of the stack.
+        @return: the value at the top of the stack; or {null} if the stack is empty
+    */
+    public final T peek() {
+        Node node = top.get();
+        return node == null ? null : node.data;
+    }  // Time complexity: O(1)
+
+    /** Removes the value at the top of the stack.
+        @return: the value removed; or {null} if the stack is empty
+    */
+    public final T pop() {
+        while (true) {
+            Node node = top.get();
+            if (node == null) { return null; }
+            if (top.compareAndSet(node, node.next)) { return node.data; }
+        }
+    }  // Time complexity: O(1) without contention
+
+    /** Inserts a new value onto the top of the stack.
+        @param item: the new value to insert onto the stack
+        @throws NullPointerException: the value is null.
+    */
+    public final void push(T item) {
+        if (item == null) { throw new NullPointerException("Accessing null value"); }
+        Node node = new Node(item);
+        while (true) {
+            node.next = top.get();
+            if (top.compareAndSet(node.next, node)) { return; }
+        }
+    }  // Time complexity: O(1) without contention
+}
\ No newline at end of file
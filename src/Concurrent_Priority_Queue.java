@@ -0,0 +1,211 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/** A relaxed concurrent min-priority queue (a multi-queue)
+    The values are spread over several sub-heaps, each guarded by its own lock and caching its minimum in a volatile
+    field. offer locks a random sub-heap; poll reads the cached minimums of two random sub-heaps and removes from the
+    one with the smaller minimum. Threads rarely wait for the same lock, so throughput grows with the number of
+    threads instead of queueing on one lock; in exchange poll may return a value slightly greater than the minimum
+    (in expectation one of the smallest (relaxation * processors) values).
+*/
+public class Concurrent_Priority_Queue<T> {
+    /** A sub-heap together with its lock and a cached copy of its minimum */
+    private static final class Sub_Heap<T> extends ReentrantLock {
+        // Data fields
+        private static final long serialVersionUID = 1L;
+        final Array_Priority_Queue<T> heap;  // The values of the sub-heap (accessed under the lock only)
+        volatile T min;  // The minimum of the sub-heap; {null} if it is empty (written under the lock only)
+        volatile int size;  // The size of the sub-heap (written under the lock only)
+
+        // Constructors
+
+        Sub_Heap(Comparator<? super T> comparator) { heap = new Array_Priority_Queue<>(comparator); }
+
+        // Methods
+
+        /** Refreshes the cached minimum and size after the sub-heap changed (lock holder only). */
+        void publish() {
+            T top = heap.isEmpty() ? null : heap.peek();
+            if (top != min) { min = top; }  // Most offers leave the minimum unchanged: skip the volatile write.
+            size = heap.size();
+        }  // Time complexity: O(1)
+    }
+
+    // Data fields
+    private final Sub_Heap<T>[] heaps;  // The sub-heaps
+    private final Comparator<? super T> comparator;  // The order of the values; {null} for the natural order
+    private static final int DEFAULT_RELAXATION = 2;  // Default number of sub-heaps per processor
+    private static final int MAX_RELAXATION = 1 << 10;  // Largest number of sub-heaps per processor
+    private static final int MAX_FAILED_LOCKS = 8;  // Failed attempts to lock a sub-heap before an operation waits for one
+
+    // Constructors
+
+    public Concurrent_Priority_Queue() { this(DEFAULT_RELAXATION, null); }  // Default constructor
+
+    /** Creates an empty priority queue.
+        @param relaxation: the number of sub-heaps per processor (more sub-heaps mean less contention but a looser order)
+        @param comparator: the order of the values; {null} for the natural order
+        @throws IllegalArgumentException: relaxation < 1 or relaxation > 2 ^ 10
+    */
+    @SuppressWarnings("unchecked")
+    public Concurrent_Priority_Queue(int relaxation, Comparator<? super T> comparator) {
+        if (relaxation < 1 || relaxation > MAX_RELAXATION) { throw new IllegalArgumentException("Illegal relaxation: " + relaxation); }
+        heaps = (Sub_Heap<T>[])new Sub_Heap<?>[Math.max(2, relaxation * Runtime.getRuntime().availableProcessors())];
+        for (int i = 0; i < heaps.length; i++) { heaps[i] = new Sub_Heap<>(comparator); }
+        this.comparator = comparator;
+    }
+
+    // Methods
+
+    /** Returns the size of the priority queue (a snapshot that may be stale under concurrent updates).
+        @return: the size of the priority queue
+    */
+    public final int size() {
+        long size = 0;
+        for (Sub_Heap<T> sub : heaps) { size += sub.size; }
+        return (int)Math.min(Integer.MAX_VALUE, size);
+    }  // Time complexity: O(p)
+
+    /** Tests whether the priority queue is empty or not (a snapshot that may be stale under concurrent updates).
+        @return: {true} if the priority queue is empty; {false} otherwise
+    */
+    public final boolean isEmpty() {
+        for (Sub_Heap<T> sub : heaps) {
+            if (sub.min != null) { return false; }
+        }
+        return true;
+    }  // Time complexity: O(p)
+
+    /** Compares two values by the comparator, or by their natural order without a comparator.
+        @param a: the first value
+        @param b: the second value
+        @return: a negative number, zero, or a positive number as {a} is less than, equal to, or greater than {b}
+    */
+    @SuppressWarnings("unchecked")
+    private int compare(T a, T b) {
+        return comparator == null ? ((Comparable<? super T>)a).compareTo(b) : comparator.compare(a, b);
+    }  // Time complexity: O(1)
+
+    /** Tries to lock a sub-heap, or waits for its lock once an operation has failed too many times.
+        A failed attempt yields the processor, so that lock holders can run when there are more threads than processors.
+        @param sub: the sub-heap to lock
+        @param failures: the number of attempts the operation has already failed
+        @return: {true} if the lock is held; {false} if the sub-heap is locked by another thread
+    */
+    private static boolean lock(Sub_Heap<?> sub, int failures) {
+        if (failures >= MAX_FAILED_LOCKS) {
+            sub.lock();
+            return true;
+        }
+        if (sub.tryLock()) { return true; }
+        Thread.yield();
+        return false;
+    }  // Time complexity: O(1) without contention
+
+    /** Inserts a new value to a random sub-heap, preferring one that is not locked.
+        @param value: the new value to insert to the priority queue
+        @throws NullPointerException: the value is null.
+    */
+    public final void offer(T value) {
+        if (value == null) { throw new NullPointerException("Accessing null value"); }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int failures = 0; ; failures++) {
+            Sub_Heap<T> sub = heaps[random.nextInt(heaps.length)];
+            if (lock(sub, failures)) {
+                try {
+                    sub.heap.offer(value);
+                    sub.publish();
+                } finally { sub.unlock(); }
+                return;
+            }
+        }
+    }  // Time complexity: O(log(n)) without contention
+
+    /** Returns the smallest of the cached sub-heap minimums (a snapshot that may be stale under concurrent updates).
+        @return: the value with the highest priority; or {null} if the priority queue is empty
+    */
+    public final T peek() {
+        T result = null;
+        for (Sub_Heap<T> sub : heaps) {
+            T min = sub.min;
+            if (min != null && (result == null || compare(min, result) < 0)) { result = min; }
+        }
+        return result;
+    }  // Time complexity: O(p)
+
+    /** Chooses a sub-heap to remove from: of two random sub-heaps, the one with the smaller cached minimum.
+        If both are empty, the first non-empty sub-heap found by a scan is chosen instead.
+        @param random: the random number generator of the calling thread
+        @return: the chosen sub-heap; or {null} if every sub-heap is empty
+    */
+    private Sub_Heap<T> choose(ThreadLocalRandom random) {
+        Sub_Heap<T> a = heaps[random.nextInt(heaps.length)], b = heaps[random.nextInt(heaps.length)];
+        T minA = a.min, minB = b.min;
+        if (minA != null && (minB == null || compare(minA, minB) <= 0)) { return a; }
+        if (minB != null) { return b; }
+        int start = random.nextInt(heaps.length);
+        for (int i = 0; i < heaps.length; i++) {
+            Sub_Heap<T> sub = heaps[(start + i) % heaps.length];
+            if (sub.min != null) { return sub; }
+        }
+        return null;
+    }  // Time complexity: O(1) unless the sampled sub-heaps are empty
+
+    /** Removes a value with a high priority (the smaller minimum of two random sub-heaps).
+        @return: the value removed; or {null} if the priority queue is empty
+    */
+    public final T poll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int failures = 0; ; failures++) {
+            Sub_Heap<T> sub = choose(random);
+            if (sub == null) { return null; }
+            if (lock(sub, failures)) {
+                try {
+                    if (!sub.heap.isEmpty()) {
+                        T value = sub.heap.poll();
+                        sub.publish();
+                        return value;
+                    }
+                } finally { sub.unlock(); }
+            }
+        }
+    }  // Time complexity: O(log(n)) without contention
+
+    /** Removes values with high priorities and appends them to an array list.
+        Each lock taken removes a run of values from one sub-heap, up to the cached minimum of another random sub-heap,
+        so a batch costs far fewer lock acquisitions than the same number of polls.
+        @param target: the array list receiving the values
+        @param max: the maximum number of values to remove
+        @return: the number of values removed
+        @throws NullPointerException: the array list is null.
+    */
+    public final int drainTo(Array_List<T> target, int max) {
+        if (target == null) { throw new NullPointerException("Accessing null array list"); }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int removed = 0;
+        for (int failures = 0; removed < max; ) {
+            Sub_Heap<T> sub = choose(random);
+            if (sub == null) { break; }
+            if (!lock(sub, failures++)) { continue; }
+            failures = 0;
+            try {
+                T bound = heaps[random.nextInt(heaps.length)].min;  // Stop the run where another sub-heap would be polled.
+                int run = 0;
+                while (removed < max && !sub.heap.isEmpty()) {
+                    if (run > 0 && bound != null && compare(sub.heap.peek(), bound) > 0) { break; }
+                    target.add(sub.heap.poll());
+                    removed++;
+                    run++;
+                }
+                sub.publish();
+            } finally { sub.unlock(); }
+        }
+        return removed;
+    }  // Time complexity: O(k * log(n)) without contention
+}
\ No newline at end of file
@@ -0,0 +1,327 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** A lock-free sorted set implemented by skip list (Herlihy-Shavit)
+    Every node is linked into the bottom level and, with probability 1/2 per level, into the levels above it,
+    so a search skips ahead on the sparse upper levels and takes O(log(n)) expected steps.
+    A node is removed by first marking its next references (logical removal, the linearization point is the mark
+    on the bottom level) and then unlinking it by CAS; any thread that meets a marked node helps unlink it.
+    A node is itself the atomic array of its next references, and a marked reference is stored as a Mark object
+    wrapping the next node, so an unmarked hop costs a single array read (rather than the extra indirections of
+    an array of AtomicMarkableReference).
+    contains never writes and never retries. Iterators are weakly consistent: they never throw because of
+    concurrent updates and see every value present for their whole lifetime, but may or may not see the others.
+*/
+public class Concurrent_Skip_List<T extends Comparable<T>> implements Iterable<T> {
+    /** A skip list node, holding its next reference on each level (a node or, once the node is removed, a Mark) */
+    private final class Node extends AtomicReferenceArray<Object> {
+        // Data fields
+        private static final long serialVersionUID = 1L;
+        final T data;  // The data stored in the node ({null} for the head sentinel)
+
+        // Constructors
+
+        Node(T data, int height) {
+            super(height);
+            this.data = data;
+        }
+
+        /** Returns the next node on a level, whether this node is removed or not.
+            @param level: the level
+            @return: the next node on the level; or {null} at the end of the level
+        */
+        @SuppressWarnings("unchecked")
+        Node successor(int level) {
+            Object reference = get(level);
+            return (Node)(reference instanceof Mark ? ((Mark)reference).next : reference);
+        }  // Time complexity: O(1)
+
+        /** Tests whether this node is removed on a level.
+            @param level: the level
+            @return: {true} if the next reference on the level is marked; {false} otherwise
+        */
+        boolean isMarked(int level) { return get(level) instanceof Mark; }  // Time complexity: O(1)
+    }
+
+    /** A marked next reference */
+    private static final class Mark {
+        // Data fields
+        final Object next;  // The next node
+
+        // Constructors
+
+        Mark(Object next) { this.next = next; }
+    }
+
+    // Data fields
+    private final Node head = new Node(null, MAX_LEVEL);  // The head sentinel, before every value on every level
+    private final AtomicInteger levels = new AtomicInteger(1);  // The number of levels in use (never decreases)
+    private static final int MAX_LEVEL = 31;  // The number of levels
+
+    // Constructors
+
+    public Concurrent_Skip_List() {}  // Default constructor
+
+    // Methods
+
+    /** Returns a random height for a new node (1 with probability 1/2, 2 with probability 1/4, ...).
+        @return: a random height between 1 and MAX_LEVEL
+    */
+    private static int randomHeight() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | 1 << (MAX_LEVEL - 1)) + 1;
+    }  // Time complexity: O(1)
+
+    /** Searches a key on the lowest levels, unlinking the removed nodes met on the way.
+        @param key: the key to search
+        @param preds: receives the last node before the key on each level below preds.length
+        @param succs: receives the first node not before the key on each level below preds.length
+                      ({null} at the end of the level)
+        @return: {true} if an unremoved node holds the key; {false} otherwise
+    */
+    private boolean find(T key, Node[] preds, Node[] succs) {
+        retry:
+        while (true) {
+            Node pred = head, curr = null;
+            for (int level = preds.length - 1; level >= 0; level--) {
+                curr = pred.successor(level);
+                while (curr != null) {
+                    Object reference = curr.get(level);
+                    if (reference instanceof Mark) {  // The node is removed: unlink it on this level.
+                        Object succ = ((Mark)reference).next;
+                        if (!pred.compareAndSet(level, curr, succ)) { continue retry; }
+                        curr = pred.successor(level);
+                    } else if (curr.data.compareTo(key) < 0) {
+                        pred = curr;
+                        curr = pred.successor(level);
+                    } else { break; }
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return curr != null && curr.data.compareTo(key) == 0;
+        }
+    }  // Time complexity: O(log(n)) expected
+
+    /** Returns the first unremoved node not before a key (without unlinking removed nodes).
+        A removed node is stepped over but never becomes the predecessor, so the search only drops down a level
+        from a node that was unremoved when it was passed, as in the wait-free contains of Herlihy and Shavit.
+        @param key: the key to search; or {null} for the first node
+        @return: the first unremoved node whose value is not less than the key; or {null} if there is none
+    */
+    private Node ceilingNode(T key) {
+        Node pred = head, curr = null;
+        for (int level = key == null ? 0 : levels.get() - 1; level >= 0; level--) {
+            curr = pred.successor(level);
+            while (curr != null) {
+                if (curr.isMarked(level)) {  // Removed: step over it without making it the predecessor.
+                    curr = curr.successor(level);
+                } else if (key != null && curr.data.compareTo(key) < 0) {
+                    pred = curr;
+                    curr = curr.successor(level);
+                } else { break; }
+            }
+        }
+        return curr;
+    }  // Time complexity: O(log(n)) expected
+
+    /** Returns the size of the skip list (a snapshot that may be stale under concurrent updates).
+        @return: the size of the skip list
+    */
+    public final int size() {
+        int count = 0;
+        for (Node p = ceilingNode(null); p != null; p = nextNode(p)) { count++; }
+        return count;
+    }  // Time complexity: O(n)
+
+    /** Tests whether the skip list is empty or not (a snapshot that may be stale under concurrent updates).
+        @return: {true} if the skip list is empty; {false} otherwise
+    */
+    public final boolean isEmpty() { return ceilingNode(null) == null; }  // Time complexity: O(1) without removed nodes at the front
+
+    /** Tests whether a target value appears in the skip list.
+        @param target: the target value to search in the skip list
+        @return: {true} if the target value appears in the skip list; {false} otherwise
+        @throws NullPointerException: the target value is null.
+    */
+    public final boolean contains(T target) {
+        if (target == null) { throw new NullPointerException("Accessing null value"); }
+        Node node = ceilingNode(target);
+        return node != null && node.data.compareTo(target) == 0;
+    }  // Time complexity: O(log(n)) expected
+
+    /** Inserts a new value into the skip list.
+        @param value: the new value to insert into the skip list
+        @return: {true} if the new value is inserted; {false} if the new value already exists in the skip list.
+        @throws NullPointerException: the value is null.
+    */
+    @SuppressWarnings("unchecked")
+    public final boolean insert(T value) {
+        if (value == null) { throw new NullPointerException("Accessing null value"); }
+        int height = randomHeight(), inUse;
+        while (height > (inUse = levels.get())) {  // Open the new levels before searching them.
+            if (levels.compareAndSet(inUse, height)) { break; }
+        }
+        inUse = levels.get();
+        Node[] preds = (Node[])new Concurrent_Skip_List<?>.Node[inUse];
+        Node[] succs = (Node[])new Concurrent_Skip_List<?>.Node[inUse];
+        Node node = null;
+        while (true) {
+            if (find(value, preds, succs)) { return false; }
+            if (node == null) { node = new Node(value, height); }
+            for (int level = 0; level < height; level++) { node.set(level, succs[level]); }
+            // Linking the bottom level inserts the value; the upper levels are shortcuts linked afterwards.
+            if (!preds[0].compareAndSet(0, succs[0], node)) { continue; }
+            for (int level = 1; level < height; level++) {
+                while (true) {
+                    Node succ = succs[level];
+                    Object current = node.get(level);
+                    if (current instanceof Mark) { return true; }  // Already removed by another thread: stop linking.
+                    if (current != succ && !node.compareAndSet(level, current, succ)) { continue; }
+                    if (preds[level].compareAndSet(level, succ, node)) { break; }
+                    find(value, preds, succs);  // The neighborhood changed: search again.
+                }
+            }
+            return true;
+        }
+    }  // Time complexity: O(log(n)) expected
+
+    /** Removes a value from the skip list.
+        @param value: the value to remove from the skip list
+        @return: {true} if the value is removed; {false} if the value does not exist in the skip list.
+        @throws NullPointerException: the value is null.
+    */
+    @SuppressWarnings("unchecked")
+    public final boolean remove(T value) {
+        if (value == null) { throw new NullPointerException("Accessing null value"); }
+        int inUse = levels.get();  // A removed node left linked on a level above is unlinked by later searches.
+        Node[] preds = (Node[])new Concurrent_Skip_List<?>.Node[inUse];
+        Node[] succs = (Node[])new Concurrent_Skip_List<?>.Node[inUse];
+        if (!find(value, preds, succs)) { return false; }
+        Node victim = succs[0];
+        for (int level = victim.length() - 1; level >= 1; level--) {  // Mark the upper levels top-down.
+            Object succ;
+            while (!((succ = victim.get(level)) instanceof Mark)) {
+                victim.compareAndSet(level, succ, new Mark(succ));
+            }
+        }
+        while (true) {  // Marking the bottom level removes the value; only one thread can succeed.
+            Object succ = victim.get(0);
+            if (succ instanceof Mark) { return false; }  // Another thread removed it first.
+            if (victim.compareAndSet(0, succ, new Mark(succ))) {
+                // Unlink the node after the predecessors already found; search again only if one of them changed.
+                for (int level = Math.min(victim.length(), preds.length) - 1; level >= 0; level--) {
+                    if (succs[level] == victim && !preds[level].compareAndSet(level, victim, victim.successor(level))) {
+                        find(value, preds, succs);
+                        break;
+                    }
+                }
+                return true;
+            }
+        }
+    }  // Time complexity: O(log(n)) expected
+
+    /** Returns the next unremoved node on the bottom level.
+        @param node: a reference to a node in the skip list
+        @return: the next unremoved node; or {null} at the end of the skip list
+    */
+    private Node nextNode(Node node) {
+        Node p = node.successor(0);
+        while (p != null && p.isMarked(0)) { p = p.successor(0); }
+        return p;
+    }  // Time complexity: O(1) without removed nodes
+
+    /** A weakly consistent in-order iterator over the values within a range of the skip list */
+    private final class Skip_List_Iterator implements Iterator<T> {
+        // Data fields
+        private Node nextNode;  // The node holding the next value; or {null} at the end of the range
+        private final T hi;  // The upper bound of the range (inclusive); or {null} for no upper bound
+
+        // Constructors
+
+        /** Creates an iterator positioned at the least value not less than the lower bound.
+            @param lo: the lower bound of the range (inclusive); or {null} for no lower bound
+            @param hi: the upper bound of the range (inclusive); or {null} for no upper bound
+        */
+        Skip_List_Iterator(T lo, T hi) {
+            this.hi = hi;
+            nextNode = bound(ceilingNode(lo));
+        }
+
+        // Methods
+
+        /** Clips a node to the upper bound of the range.
+            @param node: a reference to a node; or {null}
+            @return: the node if it is within the range; {null} otherwise
+        */
+        private Node bound(Node node) {
+            return node == null || hi == null || node.data.compareTo(hi) <= 0 ? node : null;
+        }  // Time complexity: O(1)
+
+        /** Tests whether there exists a next value in the range.
+            @return: {true} if there exists a next value; {false} if the iterator is at the end of the range
+        */
+        @Override
+        public boolean hasNext() { return nextNode != null; }  // Time complexity: O(1)
+
+        /** Moves the iterator forward one position and returns the value passed by.
+            @return: the value passed by during the iterator movement
+            @throws NoSuchElementException: the iterator is at the end of the range.
+        */
+        @Override
+        public T next() {
+            if (!hasNext()) { throw new NoSuchElementException("Accessing null reference"); }
+            T value = nextNode.data;
+            nextNode = bound(nextNode(nextNode));
+            return value;
+        }  // Time complexity: O(1) without removed nodes
+
+        /** Removes the next value at iterator position (if no other thread removed it first).
+            @return: the value passed by
+            @throws NoSuchElementException: the iterator is at the end of the range.
+        */
+        @Override
+        public T removeNext() {
+            T value = next();
+            remove(value);
+            return value;
+        }  // Time complexity: O(log(n)) expected
+    }
+
+    /** Generates a weakly consistent iterator positioned at the beginning of the skip list.
+        @return: an iterator positioned at the beginning of the skip list
+    */
+    @Override
+    public final Iterator<T> iterator() { return new Skip_List_Iterator(null, null); }  // Time complexity: O(1)
+
+    /** Generates a weakly consistent iterator over the values within a range, in ascending order.
+        @param lo: the lower bound of the range (inclusive)
+        @param hi: the upper bound of the range (inclusive)
+        @return: an iterator positioned at the least value not less than the lower bound
+        @throws NullPointerException: either bound is null.
+    */
+    public final Iterator<T> rangeIterator(T lo, T hi) {
+        if (lo == null || hi == null) { throw new NullPointerException("Accessing null bound"); }
+        return new Skip_List_Iterator(lo, hi);
+    }  // Time complexity: O(log(n)) expected
+
+    /** Customizes the output format for the skip list.
+        @return: a string representing the values in ascending order
+    */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Iterator<T> it = iterator();
+        while (it.hasNext()) {
+            builder.append(it.next());
+            if (it.hasNext()) { builder.append(", "); }
+        }
+        return builder.append(']').toString();
+    }  // Time complexity: O(n)
+}
\ No newline at end of file
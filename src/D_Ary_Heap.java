@@ -0,0 +1,154 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/** A d-ary min-heap stored in an array
+    Every node has up to d children, so the tree is only log_d(n) levels deep: offer makes fewer moves than in
+    a binary heap, and the d children compared by poll sit next to each other in memory. The arity defaults to 4.
+*/
+public class D_Ary_Heap<T> implements Heap<T> {
+    // Data fields
+    private Object[] heap;  // The values in heap order
+    private int size;  // The number of values in the heap
+    private final int arity;  // The maximum number of children of a node
+    private final Comparator<? super T> comparator;  // The order of the values; {null} for the natural order
+    private static final int DEFAULT_ARITY = 4;  // Default number of children of a node
+    private static final int MAX_ARITY = 1 << 10;  // Largest number of children of a node
+    private static final int DEFAULT_CAPACITY = 10;  // Default capacity for an empty heap
+
+    // Constructors
+
+    public D_Ary_Heap() { this(DEFAULT_ARITY, null); }  // Default constructor
+
+    public D_Ary_Heap(int arity, Comparator<? super T> comparator) {  // Constructor with an arity and a comparator
+        if (arity < 2 || arity > MAX_ARITY) { throw new IllegalArgumentException("Illegal arity: " + arity); }
+        heap = new Object[DEFAULT_CAPACITY];
+        this.arity = arity;
+        this.comparator = comparator;
+    }
+
+    public D_Ary_Heap(D_Ary_Heap<T> other) {  // Copy constructor
+        if (other == null) { throw new NullPointerException("Accessing null reference"); }
+        heap = Arrays.copyOf(other.heap, other.heap.length);
+        size = other.size;
+        arity = other.arity;
+        comparator = other.comparator;
+    }
+
+    // Methods
+
+    /** Returns the size of the heap.
+        @return: the size of the heap
+    */
+    @Override
+    public final int size() { return size; }  // Time complexity: O(1)
+
+    /** Tests whether the heap is empty.
+        @return: {true} if the heap is empty; {false} otherwise
+    */
+    @Override
+    public final boolean isEmpty() { return size == 0; }  // Time complexity: O(1)
+
+    /** Compares two values by the comparator, or by their natural order without a comparator.
+        @param a: the first value
+        @param b: the second value
+        @return: a negative number, zero, or a positive number as {a} is less than, equal to, or greater than {b}
+    */
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator == null ? ((Comparable<? super T>)a).compareTo((T)b) : comparator.compare((T)a, (T)b);
+    }  // Time complexity: O(1)
+
+    /** Returns the value with the highest priority.
+        @return: value with the highest priority
+        @throws NoSuchElementException: the heap is empty.
+    */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (isEmpty()) { throw new NoSuchElementException("Accessing empty queue"); }
+        return (T)heap[0];
+    }  // Time complexity: O(1)
+
+    /** Removes and returns the value with the highest priority.
+        @return: value removed
+        @throws NoSuchElementException: the heap is empty.
+    */
+    @Override
+    public T poll() {
+        T toBeRemoved = peek();
+        Object last = heap[--size];
+        heap[size] = null;
+        if (size > 0) { siftDown(0, last); }
+        return toBeRemoved;
+    }  // Time complexity: O(d * log_d(n))
+
+    /** Inserts a new element to the heap.
+        @param value: element to add to the heap
+    */
+    @Override
+    public void offer(T value) {
+        if (size == heap.length) { heap = Arrays.copyOf(heap, Growth_Policy.DOUBLING.grow(heap.length, size + 1L)); }
+        int hole = size++;
+        while (hole > 0) {  // Move the greater parents down into the hole.
+            int parent = (hole - 1) / arity;
+            if (compare(heap[parent], value) <= 0) { break; }
+            heap[hole] = heap[parent];
+            hole = parent;
+        }
+        heap[hole] = value;
+    }  // Time complexity: O(log_d(n))
+
+    /** Moves all the values of another heap into this heap, leaving the other heap empty.
+        If the other heap is also a d-ary heap, the two arrays are concatenated and heapified bottom-up;
+        otherwise its values are polled one by one.
+        @param other: the heap to meld into this heap
+        @throws NullPointerException: the other heap is null.
+        @throws IllegalArgumentException: the other heap is this heap.
+    */
+    @Override
+    public void meld(Heap<T> other) {
+        if (!(other instanceof D_Ary_Heap) || other == this) {
+            Heap.super.meld(other);
+            return;
+        }
+        meld((D_Ary_Heap<T>)other);
+    }  // Time complexity: O(n + m) for a d-ary heap
+
+    /** Concatenates the array of another d-ary heap to this heap and heapifies the result bottom-up.
+        @param other: the d-ary heap to meld into this heap (not this heap)
+    */
+    private void meld(D_Ary_Heap<T> other) {
+        if (size + other.size > heap.length) { heap = Arrays.copyOf(heap, Growth_Policy.DOUBLING.grow(heap.length, (long)size + other.size)); }
+        System.arraycopy(other.heap, 0, heap, size, other.size);
+        size += other.size;
+        Arrays.fill(other.heap, 0, other.size, null);
+        other.size = 0;
+        if (size > 1) {
+            for (int i = (size - 2) / arity; i >= 0; i--) { siftDown(i, heap[i]); }
+        }
+    }  // Time complexity: O(n + m)
+
+    /** Moves a value down from a hole until no child is smaller, moving the smallest child up at each level.
+        @param hole: the index where the value starts
+        @param value: the value to place
+    */
+    private void siftDown(int hole, Object value) {
+        int lastParent = size < 2 ? -1 : (size - 2) / arity;  // Indexes up to this have at least one child.
+        while (hole <= lastParent) {
+            int first = arity * hole + 1, end = first + Math.min(arity, size - first), min = first;
+            for (int child = first + 1; child < end; child++) {
+                if (compare(heap[child], heap[min]) < 0) { min = child; }
+            }
+            if (compare(value, heap[min]) <= 0) { break; }
+            heap[hole] = heap[min];
+            hole = min;
+        }
+        heap[hole] = value;
+    }  // Time complexity: O(d * log_d(n))
+}
\ No newline at end of file
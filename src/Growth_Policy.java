@@ -0,0 +1,68 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+/** A growth and shrink policy for the array-backed containers */
+public final class Growth_Policy {
+    // Data fields
+    private final double growthFactor;  // The capacity is multiplied by this factor when the array is full
+    private final int maxGrowthStep;  // The maximum number of slots added by a single growth
+    private final double shrinkOccupancy;  // The array shrinks when size < capacity * shrinkOccupancy (0: never)
+    private final int minCapacity;  // The array never shrinks below this capacity
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;  // Largest array length the JVM can allocate
+
+    /** Doubles the capacity when full and never shrinks (the original behavior of the containers) */
+    public static final Growth_Policy DOUBLING = new Growth_Policy(2.0, MAX_CAPACITY, 0.0, 10);
+
+    /** Doubles the capacity when full and halves it when less than a quarter is used */
+    public static final Growth_Policy ELASTIC = new Growth_Policy(2.0, MAX_CAPACITY, 0.25, 10);
+
+    // Constructors
+
+    /** Creates a growth policy.
+        @param growthFactor: the factor the capacity is multiplied by when the array is full (> 1)
+        @param maxGrowthStep: the maximum number of slots added by a single growth (> 0)
+        @param shrinkOccupancy: the occupancy below which the array shrinks; {0} to never shrink.
+                                It must be below 1 / growthFactor so that an array shrunk to size * growthFactor
+                                is neither full nor sparse (hysteresis).
+        @param minCapacity: the capacity the array never shrinks below (>= 0)
+        @throws IllegalArgumentException: any parameter is out of range.
+    */
+    public Growth_Policy(double growthFactor, int maxGrowthStep, double shrinkOccupancy, int minCapacity) {
+        if (!(growthFactor > 1)) { throw new IllegalArgumentException("Illegal growth factor: " + growthFactor); }
+        if (maxGrowthStep <= 0) { throw new IllegalArgumentException("Illegal growth step: " + maxGrowthStep); }
+        if (!(shrinkOccupancy >= 0 && shrinkOccupancy * growthFactor < 1)) {
+            throw new IllegalArgumentException("Illegal shrink occupancy: " + shrinkOccupancy);
+        }
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) { throw new IllegalArgumentException("Illegal capacity: " + minCapacity); }
+        this.growthFactor = growthFactor;
+        this.maxGrowthStep = maxGrowthStep;
+        this.shrinkOccupancy = shrinkOccupancy;
+        this.minCapacity = minCapacity;
+    }
+
+    // Methods
+
+    /** Returns the capacity after a growth.
+        @param capacity: the current capacity
+        @param required: the number of values the array must be able to hold after the growth
+        @return: the new capacity, at least {required} and greater than {capacity}
+        @throws OutOfMemoryError: the required capacity exceeds the maximum array length.
+    */
+    public int grow(int capacity, long required) {
+        if (required > MAX_CAPACITY) { throw new OutOfMemoryError("Required array length too large: " + required); }
+        long step = Math.max(1, Math.min(maxGrowthStep, (long)Math.ceil(capacity * (growthFactor - 1))));
+        return (int)Math.min(MAX_CAPACITY, Math.max(Math.max(capacity + step, required), minCapacity));
+    }  // Time complexity: O(1)
+
+    /** Returns the capacity after removing values.
+        @param capacity: the current capacity
+        @param size: the number of values in the array
+        @return: a smaller capacity if the array is sparse; otherwise the current capacity
+    */
+    public int shrink(int capacity, int size) {
+        if (capacity <= minCapacity || size >= capacity * shrinkOccupancy) { return capacity; }
+        return (int)Math.max(minCapacity, Math.min(capacity, Math.ceil(size * growthFactor)));
+    }  // Time complexity: O(1)
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+/** A min-priority queue (the value with the highest priority is the smallest one) */
+public interface Heap<T> {
+    /** Returns the size of the priority queue.
+        @return: the size of the priority queue
+    */
+    int size();
+
+    /** Tests whether the priority queue is empty.
+        @return: {true} if the priority queue is empty; {false} otherwise
+    */
+    boolean isEmpty();
+
+    /** Returns the value with the highest priority.
+        @return: value with the highest priority
+        @throws NoSuchElementException: the priority queue is empty.
+    */
+    T peek();
+
+    /** Removes and returns the value with the highest priority.
+        @return: value removed
+        @throws NoSuchElementException: the priority queue is empty.
+    */
+    T poll();
+
+    /** Inserts a new element to the priority queue.
+        @param value: element to add to the queue
+    */
+    void offer(T value);
+
+    /** Moves all the values of another priority queue into this priority queue, leaving the other one empty.
+        This version polls the values one by one; implementations override it to meld faster with their own kind.
+        @param other: the priority queue to meld into this priority queue
+        @throws NullPointerException: the other priority queue is null.
+        @throws IllegalArgumentException: the other priority queue is this priority queue.
+    */
+    default void meld(Heap<T> other) {
+        if (other == null) { throw new NullPointerException("Accessing null reference"); }
+        if (other == this) { throw new IllegalArgumentException("Melding a heap with itself"); }
+        while (!other.isEmpty()) { offer(other.poll()); }
+    }  // Time complexity: O(m * (log(m) + log(n + m)))
+}
\ No newline at end of file
@@ -1,62 +1,267 @@
 // Created by Dayu Wang (dwang@stchas.edu) on 2025-08-01
 
-// Last updated by Dayu Wang (dwang@stchas.edu) on 2025-08-01
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
 
 
+import java.util.Comparator;
+
 public class Heap_Sort {
-    /** Moves the root to form a max heap.
-        @param arr: array to max-heapify
-        @param size: size of the array
-        @param root: index of the root
-    */
-    private static void maxHeapify(int[] arr, int size, int root) {
-        // Find the children of the root.
-        int left = 2 * root + 1, right = 2 * root + 2;
-        // Find the maximum value among root, left, and right.
-        int max = root;
-        if (left < size && arr[left] > arr[max]) { max = left; }
-        if (right < size && arr[right] > arr[max]) { max = right; }
-        // If the max is not the root, swap the root with its larger child.
-        if (root != max) {
-            int temp = arr[root];
-            arr[root] = arr[max];
-            arr[max] = temp;
-            // Recursively apply the same algorithm in the next level.
-            maxHeapify(arr, size, max);
-        }
-    }  // Time complexity: O(log(n))
-
-    /** Converts an array to a max heap.
-        @param arr: array to build max heap
-        @param root: index of the root
-    */
-    private static void buildMaxHeap(int[] arr, int root) {
-        // Find the roots of left and right subtrees.
-        int left = 2 * root + 1, right = 2 * root + 2;
-        // Recursively build max heaps for the left and right subtrees.
-        if (left < arr.length) { buildMaxHeap(arr, left); }
-        if (right < arr.length) { buildMaxHeap(arr, right); }
-        // Finally, relocate the root to make the entire array a max heap.
-        maxHeapify(arr, arr.length, root);
-    }  // Time complexity: O(n)
-
-    /** Sorts an array.
+    /** Moves a value down a max heap stored from an offset of an array until no child is greater.
+        @param arr: array holding the heap
+        @param offset: index of the root of the heap in the array
+        @param size: size of the heap
+        @param root: heap index of the value to move down
+    */
+    private static void siftDown(int[] arr, int offset, int size, int root) {
+        int value = arr[offset + root];
+        while (root < size / 2) {  // The value has at least one child.
+            int child = 2 * root + 1;
+            if (child + 1 < size && arr[offset + child + 1] > arr[offset + child]) { child++; }
+            if (arr[offset + child] <= value) { break; }
+            arr[offset + root] = arr[offset + child];
+            root = child;
+        }
+        arr[offset + root] = value;
+    }  // Time complexity: O(log(n))
+
+    /** Fills the empty root of a max heap with a value: the hole first sinks to a leaf along the greater children,
+        then the value bounces up from there. The value comes from the bottom of the heap and usually belongs
+        near the leaves, so this takes about log(n) comparisons instead of the 2 * log(n) of a plain sift-down.
+        @param arr: array holding the heap
+        @param offset: index of the root of the heap in the array
+        @param size: size of the heap (including the empty root)
+        @param value: the value to place
+    */
+    private static void bounce(int[] arr, int offset, int size, int value) {
+        int hole = 0;
+        while (hole < size / 2) {  // Sink the hole to a leaf (one comparison per level).
+            int child = 2 * hole + 1;
+            if (child + 1 < size && arr[offset + child + 1] > arr[offset + child]) { child++; }
+            arr[offset + hole] = arr[offset + child];
+            hole = child;
+        }
+        while (hole > 0) {  // Bounce the value up to its place.
+            int parent = (hole - 1) / 2;
+            if (arr[offset + parent] >= value) { break; }
+            arr[offset + hole] = arr[offset + parent];
+            hole = parent;
+        }
+        arr[offset + hole] = value;
+    }  // Time complexity: O(log(n))
+
+    /** Sorts a range of an array (the max heap is built in place over the range).
+        @param arr: array to sort
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+    */
+    public static void sort(int[] arr, int from, int to) {
+        int size = to - from;
+        // Floyd's construction: sift down every parent, from the last one up to the root.
+        for (int i = size / 2 - 1; i >= 0; i--) { siftDown(arr, from, size, i); }
+        for (int last = to - 1; last > from; last--) {
+            // Move the maximum behind the heap, then refill the root with the value it replaced.
+            int value = arr[last];
+            arr[last] = arr[from];
+            bounce(arr, from, last - from, value);
+        }
+    }  // Time complexity: O(n * log(n))
+
+    // Wrapper method
+    public static void sort(int[] arr) { sort(arr, 0, arr.length); }  // Time complexity: O(n * log(n))
+
+    /** Moves a value down a max heap stored from an offset of an array until no child is greater.
+        @param arr: array holding the heap
+        @param offset: index of the root of the heap in the array
+        @param size: size of the heap
+        @param root: heap index of the value to move down
+    */
+    private static void siftDown(long[] arr, int offset, int size, int root) {
+        long value = arr[offset + root];
+        while (root < size / 2) {  // The value has at least one child.
+            int child = 2 * root + 1;
+            if (child + 1 < size && arr[offset + child + 1] > arr[offset + child]) { child++; }
+            if (arr[offset + child] <= value) { break; }
+            arr[offset + root] = arr[offset + child];
+            root = child;
+        }
+        arr[offset + root] = value;
+    }  // Time complexity: O(log(n))
+
+    /** Fills the empty root of a max heap with a value: the hole first sinks to a leaf along the greater children,
+        then the value bounces up from there.
+        @param arr: array holding the heap
+        @param offset: index of the root of the heap in the array
+        @param size: size of the heap (including the empty root)
+        @param value: the value to place
+    */
+    private static void bounce(long[] arr, int offset, int size, long value) {
+        int hole = 0;
+        while (hole < size / 2) {  // Sink the hole to a leaf (one comparison per level).
+            int child = 2 * hole + 1;
+            if (child + 1 < size && arr[offset + child + 1] > arr[offset + child]) { child++; }
+            arr[offset + hole] = arr[offset + child];
+            hole = child;
+        }
+        while (hole > 0) {  // Bounce the value up to its place.
+            int parent = (hole - 1) / 2;
+            if (arr[offset + parent] >= value) { break; }
+            arr[offset + hole] = arr[offset + parent];
+            hole = parent;
+        }
+        arr[offset + hole] = value;
+    }  // Time complexity: O(log(n))
+
+    /** Sorts a range of an array (the max heap is built in place over the range).
         @param arr: array to sort
-        @param size: size of the array
-    */
-    private static void sort(int[] arr, int size) {
-        // Converts the array to a max heap.
-        buildMaxHeap(arr, 0);
-        for (int j = size - 1; j > 0; j--) {
-            // Swap the elements at indices 0 and j.
-            int temp = arr[0];
-            arr[0] = arr[j];
-            arr[j] = temp;
-            // Shrink the size by 1 and call maxHeapify() to re-heap the array.
-            maxHeapify(arr, --size, 0);
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+    */
+    public static void sort(long[] arr, int from, int to) {
+        int size = to - from;
+        // Floyd's construction: sift down every parent, from the last one up to the root.
+        for (int i = size / 2 - 1; i >= 0; i--) { siftDown(arr, from, size, i); }
+        for (int last = to - 1; last > from; last--) {
+            // Move the maximum behind the heap, then refill the root with the value it replaced.
+            long value = arr[last];
+            arr[last] = arr[from];
+            bounce(arr, from, last - from, value);
         }
     }  // Time complexity: O(n * log(n))
 
     // Wrapper method
-    public static void sort(int[] arr) { sort(arr, arr.length); }  // Time complexity: O(n * log(n))
+    public static void sort(long[] arr) { sort(arr, 0, arr.length); }  // Time complexity: O(n * log(n))
+
+    /** Moves a value down a max heap stored from an offset of an array until no child is greater.
+        @param arr: array holding the heap
+        @param offset: index of the root of the heap in the array
+        @param size: size of the heap
+        @param root: heap index of the value to move down
+    */
+    private static void siftDown(double[] arr, int offset, int size, int root) {
+        double value = arr[offset + root];
+        while (root < size / 2) {  // The value has at least one child.
+            int child = 2 * root + 1;
+            if (child + 1 < size && Double.compare(arr[offset + child + 1], arr[offset + child]) > 0) { child++; }
+            if (Double.compare(arr[offset + child], value) <= 0) { break; }
+            arr[offset + root] = arr[offset + child];
+            root = child;
+        }
+        arr[offset + root] = value;
+    }  // Time complexity: O(log(n))
+
+    /** Fills the empty root of a max heap with a value: the hole first sinks to a leaf along the greater children,
+        then the value bounces up from there.
+        @param arr: array holding the heap
+        @param offset: index of the root of the heap in the array
+        @param size: size of the heap (including the empty root)
+        @param value: the value to place
+    */
+    private static void bounce(double[] arr, int offset, int size, double value) {
+        int hole = 0;
+        while (hole < size / 2) {  // Sink the hole to a leaf (one comparison per level).
+            int child = 2 * hole + 1;
+            if (child + 1 < size && Double.compare(arr[offset + child + 1], arr[offset + child]) > 0) { child++; }
+            arr[offset + hole] = arr[offset + child];
+            hole = child;
+        }
+        while (hole > 0) {  // Bounce the value up to its place.
+            int parent = (hole - 1) / 2;
+            if (Double.compare(arr[offset + parent], value) >= 0) { break; }
+            arr[offset + hole] = arr[offset + parent];
+            hole = parent;
+        }
+        arr[offset + hole] = value;
+    }  // Time complexity: O(log(n))
+
+    /** Sorts a range of an array (the max heap is built in place over the range).
+        @param arr: array to sort
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+    */
+    public static void sort(double[] arr, int from, int to) {
+        int size = to - from;
+        // Floyd's construction: sift down every parent, from the last one up to the root.
+        for (int i = size / 2 - 1; i >= 0; i--) { siftDown(arr, from, size, i); }
+        for (int last = to - 1; last > from; last--) {
+            // Move the maximum behind the heap, then refill the root with the value it replaced.
+            double value = arr[last];
+            arr[last] = arr[from];
+            bounce(arr, from, last - from, value);
+        }
+    }  // Time complexity: O(n * log(n))
+
+    // Wrapper method (the values are ordered as by Double.compare: -0.0 before 0.0, and NaN last)
+    public static void sort(double[] arr) { sort(arr, 0, arr.length); }  // Time complexity: O(n * log(n))
+
+    /** Moves a value down a max heap stored from an offset of an array until no child is greater.
+        @param arr: array holding the heap
+        @param offset: index of the root of the heap in the array
+        @param size: size of the heap
+        @param root: heap index of the value to move down
+        @param comparator: the order of the values
+    */
+    private static <T> void siftDown(T[] arr, int offset, int size, int root, Comparator<? super T> comparator) {
+        T value = arr[offset + root];
+        while (root < size / 2) {  // The value has at least one child.
+            int child = 2 * root + 1;
+            if (child + 1 < size && comparator.compare(arr[offset + child + 1], arr[offset + child]) > 0) { child++; }
+            if (comparator.compare(arr[offset + child], value) <= 0) { break; }
+            arr[offset + root] = arr[offset + child];
+            root = child;
+        }
+        arr[offset + root] = value;
+    }  // Time complexity: O(log(n))
+
+    /** Fills the empty root of a max heap with a value: the hole first sinks to a leaf along the greater children,
+        then the value bounces up from there.
+        @param arr: array holding the heap
+        @param offset: index of the root of the heap in the array
+        @param size: size of the heap (including the empty root)
+        @param value: the value to place
+        @param comparator: the order of the values
+    */
+    private static <T> void bounce(T[] arr, int offset, int size, T value, Comparator<? super T> comparator) {
+        int hole = 0;
+        while (hole < size / 2) {  // Sink the hole to a leaf (one comparison per level).
+            int child = 2 * hole + 1;
+            if (child + 1 < size && comparator.compare(arr[offset + child + 1], arr[offset + child]) > 0) { child++; }
+            arr[offset + hole] = arr[offset + child];
+            hole = child;
+        }
+        while (hole > 0) {  // Bounce the value up to its place.
+            int parent = (hole - 1) / 2;
+            if (comparator.compare(arr[offset + parent], value) >= 0) { break; }
+            arr[offset + hole] = arr[offset + parent];
+            hole = parent;
+        }
+        arr[offset + hole] = value;
+    }  // Time complexity: O(log(n))
+
+    /** Sorts a range of an array (the max heap is built in place over the range).
+        @param arr: array to sort
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+        @param comparator: the order of the values
+    */
+    public static <T> void sort(T[] arr, int from, int to, Comparator<? super T> comparator) {
+        int size = to - from;
+        // Floyd's construction: sift down every parent, from the last one up to the root.
+        for (int i = size / 2 - 1; i >= 0; i--) { siftDown(arr, from, size, i, comparator); }
+        for (int last = to - 1; last > from; last--) {
+            // Move the maximum behind the heap, then refill the root with the value it replaced.
+            T value = arr[last];
+            arr[last] = arr[from];
+            bounce(arr, from, last - from, value, comparator);
+        }
+    }  // Time complexity: O(n * log(n))
+
+    /** Sorts an array of objects; the sort is not stable.
+        @param arr: array to sort
+        @param comparator: the order of the values
+        @throws NullPointerException: the comparator is null.
+    */
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        if (comparator == null) { throw new NullPointerException("Accessing null comparator"); }
+        sort(arr, 0, arr.length, comparator);
+    }  // Time complexity: O(n * log(n))
 }
\ No newline at end of file
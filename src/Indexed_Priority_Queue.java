@@ -0,0 +1,210 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/** A min-heap priority queue whose entries can be found, updated, and removed through handles
+    Every offer returns a handle that records the current heap index of its entry (kept up to date by the sifts),
+    so the priority of a queued value can be changed or the value removed in O(log(n)) without a search,
+    instead of re-offering a duplicate and leaving a stale entry behind.
+*/
+public class Indexed_Priority_Queue<T extends Comparable<T>> {
+    /** A reference to an entry of the priority queue */
+    public static final class Handle<T> {
+        // Data fields
+        private T value;  // The value of the entry
+        private int index = -1;  // The index of the entry in the heap; {-1} once the entry has left the queue
+
+        // Constructors
+
+        private Handle(T value) { this.value = value; }
+
+        // Methods
+
+        /** Returns the value of the entry.
+            @return: the value of the entry
+        */
+        public T value() { return value; }  // Time complexity: O(1)
+    }
+
+    // Data fields
+    private Handle<T>[] heap;  // The entries in heap order
+    private int size;  // The number of entries in the priority queue
+    private static final int DEFAULT_CAPACITY = 10;  // Default capacity for an empty priority queue
+
+    // Constructors
+
+    public Indexed_Priority_Queue() { this(DEFAULT_CAPACITY); }  // Default constructor
+
+    @SuppressWarnings("unchecked")
+    public Indexed_Priority_Queue(int initialCapacity) {  // Constructor with an initial capacity
+        if (initialCapacity < 0 || initialCapacity > Growth_Policy.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        heap = (Handle<T>[])new Handle<?>[initialCapacity];
+    }
+
+    // Methods
+
+    /** Returns the size of the priority queue.
+        @return: the size of the priority queue
+    */
+    public final int size() { return size; }  // Time complexity: O(1)
+
+    /** Tests whether the priority queue is empty.
+        @return: {true} if the priority queue is empty; {false} otherwise
+    */
+    public final boolean isEmpty() { return size == 0; }  // Time complexity: O(1)
+
+    /** Tests whether the entry of a handle is still in the priority queue.
+        @param handle: the handle returned by {offer}
+        @return: {true} if the entry is in this priority queue; {false} if it was polled or removed
+    */
+    public final boolean contains(Handle<T> handle) {
+        if (handle == null) { throw new NullPointerException("Accessing null reference"); }
+        return handle.index >= 0 && handle.index < size && heap[handle.index] == handle;
+    }  // Time complexity: O(1)
+
+    /** Returns the value with the highest priority.
+        @return: value with the highest priority
+        @throws NoSuchElementException: the priority queue is empty.
+    */
+    public T peek() { return peekHandle().value; }  // Time complexity: O(1)
+
+    /** Returns the handle of the value with the highest priority.
+        @return: handle of the value with the highest priority
+        @throws NoSuchElementException: the priority queue is empty.
+    */
+    public Handle<T> peekHandle() {
+        if (isEmpty()) { throw new NoSuchElementException("Accessing empty queue"); }
+        return heap[0];
+    }  // Time complexity: O(1)
+
+    /** Removes and returns the value with the highest priority.
+        @return: value removed
+        @throws NoSuchElementException: the priority queue is empty.
+    */
+    public T poll() {
+        Handle<T> handle = peekHandle();
+        removeAt(0);
+        return handle.value;
+    }  // Time complexity: O(log(n))
+
+    /** Inserts a new element to the priority queue.
+        @param value: element to add to the queue
+        @return: the handle of the new entry
+    */
+    public Handle<T> offer(T value) {
+        if (size == heap.length) { heap = Arrays.copyOf(heap, Growth_Policy.DOUBLING.grow(heap.length, size + 1L)); }
+        Handle<T> handle = new Handle<>(value);
+        siftUp(size++, handle);
+        return handle;
+    }  // Time complexity: O(log(n))
+
+    /** Lowers the priority value of a queued entry.
+        @param handle: the handle of the entry
+        @param value: the new value, not greater than the current value
+        @throws NoSuchElementException: the entry is not in the priority queue.
+        @throws IllegalArgumentException: the new value is greater than the current value.
+    */
+    public void decreaseKey(Handle<T> handle, T value) {
+        checkQueued(handle);
+        if (value.compareTo(handle.value) > 0) { throw new IllegalArgumentException("New value greater than current value"); }
+        handle.value = value;
+        siftUp(handle.index, handle);
+    }  // Time complexity: O(log(n))
+
+    /** Raises the priority value of a queued entry.
+        @param handle: the handle of the entry
+        @param value: the new value, not less than the current value
+        @throws NoSuchElementException: the entry is not in the priority queue.
+        @throws IllegalArgumentException: the new value is less than the current value.
+    */
+    public void increaseKey(Handle<T> handle, T value) {
+        checkQueued(handle);
+        if (value.compareTo(handle.value) < 0) { throw new IllegalArgumentException("New value less than current value"); }
+        handle.value = value;
+        siftDown(handle.index, handle);
+    }  // Time complexity: O(log(n))
+
+    /** Changes the value of a queued entry in either direction.
+        @param handle: the handle of the entry
+        @param value: the new value
+        @throws NoSuchElementException: the entry is not in the priority queue.
+    */
+    public void update(Handle<T> handle, T value) {
+        checkQueued(handle);
+        int comparison = value.compareTo(handle.value);
+        handle.value = value;
+        if (comparison < 0) { siftUp(handle.index, handle); }
+        else if (comparison > 0) { siftDown(handle.index, handle); }
+    }  // Time complexity: O(log(n))
+
+    /** Removes a queued entry.
+        @param handle: the handle of the entry
+        @return: {true} if the entry is removed; {false} if it was not in the priority queue.
+    */
+    public boolean remove(Handle<T> handle) {
+        if (!contains(handle)) { return false; }
+        removeAt(handle.index);
+        return true;
+    }  // Time complexity: O(log(n))
+
+    /** Checks that the entry of a handle is in the priority queue.
+        @param handle: the handle to check
+        @throws NoSuchElementException: the entry is not in the priority queue.
+    */
+    private void checkQueued(Handle<T> handle) {
+        if (!contains(handle)) { throw new NoSuchElementException("Accessing removed entry"); }
+    }  // Time complexity: O(1)
+
+    /** Removes the entry at a heap index, filling the hole with the last entry.
+        @param index: the index of the entry to remove
+    */
+    private void removeAt(int index) {
+        heap[index].index = -1;
+        Handle<T> last = heap[--size];
+        heap[size] = null;
+        if (index == size) { return; }
+        // The last entry may belong above or below the hole.
+        if (index > 0 && last.value.compareTo(heap[(index - 1) / 2].value) < 0) { siftUp(index, last); }
+        else { siftDown(index, last); }
+    }  // Time complexity: O(log(n))
+
+    /** Moves an entry up from a hole until its parent is not greater, moving the parents down instead of swapping.
+        @param hole: the index where the entry starts
+        @param handle: the entry to place
+    */
+    private void siftUp(int hole, Handle<T> handle) {
+        while (hole > 0) {
+            int parent = (hole - 1) / 2;
+            if (heap[parent].value.compareTo(handle.value) <= 0) { break; }
+            heap[hole] = heap[parent];
+            heap[hole].index = hole;
+            hole = parent;
+        }
+        heap[hole] = handle;
+        handle.index = hole;
+    }  // Time complexity: O(log(n))
+
+    /** Moves an entry down from a hole until no child is smaller, moving the children up instead of swapping.
+        @param hole: the index where the entry starts
+        @param handle: the entry to place
+    */
+    private void siftDown(int hole, Handle<T> handle) {
+        int half = size / 2;  // Indexes below this have at least one child.
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < size && heap[child + 1].value.compareTo(heap[child].value) < 0) { child++; }
+            if (handle.value.compareTo(heap[child].value) <= 0) { break; }
+            heap[hole] = heap[child];
+            heap[hole].index = hole;
+            hole = child;
+        }
+        heap[hole] = handle;
+        handle.index = hole;
+    }  // Time complexity: O(log(n))
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+/** A list iterator over int values (no boxing) */
+public interface Int_List_Iterator {
+    /** Tests whether there exists a next value at current iterator position.
+        @return: {true} if there exists a next value; {false} otherwise
+    */
+    boolean hasNext();
+
+    /** Tests whether there exists a previous value at current iterator position.
+        @return: {true} if there exists a previous value; {false} otherwise
+    */
+    boolean hasPrevious();
+
+    /** Moves the iterator forward one position and returns the value passed by.
+        @return: the value passed by during the iterator movement
+    */
+    int next();
+
+    /** Moves the iterator backword one position and returns the value passed by.
+        @return: the value passed by during the iterator movement
+    */
+    int previous();
+
+    /** Removes the next value at current iterator position.
+        @return: the value removed
+    */
+    int removeNext();
+
+    /** Removes the previous value at current iterator position.
+        @return: the value removed
+    */
+    int removePrevious();
+
+    /** Updates the next value at current iterator position.
+        @param value: the new value to replace the next value
+    */
+    void setNext(int value);
+
+    /** Updates the previous value at current iterator position.
+        @param value: the new value to replace the previous value
+    */
+    void setPrevious(int value);
+
+    /** Inserts a new value at current iterator position.
+        @param value: the new value to insert into the list.
+    */
+    void add(int value);
+
+    /** Moves the iterator to the beginning of the list. */
+    void reset();
+}
\ No newline at end of file
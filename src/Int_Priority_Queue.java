@@ -0,0 +1,104 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/** A min-heap priority queue of int values stored in a primitive array (no boxing) */
+public class Int_Priority_Queue {
+    // Data fields
+    private int[] heap;  // The values in heap order
+    private int size;  // The number of values in the priority queue
+    private static final int DEFAULT_CAPACITY = 10;  // Default capacity for an empty priority queue
+
+    // Constructors
+
+    public Int_Priority_Queue() { this(DEFAULT_CAPACITY); }  // Default constructor
+
+    public Int_Priority_Queue(int initialCapacity) {  // Constructor with an initial capacity
+        if (initialCapacity < 0 || initialCapacity > Growth_Policy.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        heap = new int[initialCapacity];
+    }
+
+    public Int_Priority_Queue(int[] values) {  // Constructor from an array of values
+        if (values == null) { throw new NullPointerException("Accessing null array"); }
+        heap = Arrays.copyOf(values, values.length);
+        size = heap.length;
+        for (int i = size / 2 - 1; i >= 0; i--) { siftDown(i, heap[i]); }  // Heapify bottom-up in O(n).
+    }
+
+    public Int_Priority_Queue(Int_Priority_Queue other) {  // Copy constructor
+        if (other == null) { throw new NullPointerException("Accessing null reference"); }
+        heap = Arrays.copyOf(other.heap, other.heap.length);
+        size = other.size;
+    }
+
+    // Methods
+
+    /** Returns the size of the priority queue.
+        @return: the size of the priority queue
+    */
+    public final int size() { return size; }  // Time complexity: O(1)
+
+    /** Tests whether the priority queue is empty.
+        @return: {true} if the priority queue is empty; {false} otherwise
+    */
+    public final boolean isEmpty() { return size == 0; }  // Time complexity: O(1)
+
+    /** Removes all the values from the priority queue. */
+    public final void clear() { size = 0; }  // Time complexity: O(1)
+
+    /** Returns the smallest value.
+        @return: the smallest value
+        @throws NoSuchElementException: the priority queue is empty.
+    */
+    public int peek() {
+        if (isEmpty()) { throw new NoSuchElementException("Accessing empty queue"); }
+        return heap[0];
+    }  // Time complexity: O(1)
+
+    /** Removes and returns the smallest value.
+        @return: value removed
+        @throws NoSuchElementException: the priority queue is empty.
+    */
+    public int poll() {
+        int toBeRemoved = peek();
+        if (--size > 0) { siftDown(0, heap[size]); }
+        return toBeRemoved;
+    }  // Time complexity: O(log(n))
+
+    /** Inserts a new value to the priority queue.
+        @param value: value to add to the queue
+    */
+    public void offer(int value) {
+        if (size == heap.length) { heap = Arrays.copyOf(heap, Growth_Policy.DOUBLING.grow(heap.length, size + 1L)); }
+        int hole = size++;
+        while (hole > 0) {  // Move the greater parents down into the hole.
+            int parent = (hole - 1) / 2;
+            if (heap[parent] <= value) { break; }
+            heap[hole] = heap[parent];
+            hole = parent;
+        }
+        heap[hole] = value;
+    }  // Time complexity: O(log(n))
+
+    /** Moves a value down from a hole until no child is smaller, moving the smaller child up at each level.
+        @param hole: the index where the value starts
+        @param value: the value to place
+    */
+    private void siftDown(int hole, int value) {
+        int half = size / 2;  // Indexes below this have at least one child.
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) { child++; }
+            if (value <= heap[child]) { break; }
+            heap[hole] = heap[child];
+            hole = child;
+        }
+        heap[hole] = value;
+    }  // Time complexity: O(log(n))
+}
\ No newline at end of file
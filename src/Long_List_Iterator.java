@@ -0,0 +1,55 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+/** A list iterator over long values (no boxing) */
+public interface Long_List_Iterator {
+    /** Tests whether there exists a next value at current iterator position.
+        @return: {true} if there exists a next value; {false} otherwise
+    */
+    boolean hasNext();
+
+    /** Tests whether there exists a previous value at current iterator position.
+        @return: {true} if there exists a previous value; {false} otherwise
+    */
+    boolean hasPrevious();
+
+    /** Moves the iterator forward one position and returns the value passed by.
+        @return: the value passed by during the iterator movement
+    */
+    long next();
+
+    /** Moves the iterator backword one position and returns the value passed by.
+        @return: the value passed by during the iterator movement
+    */
+    long previous();
+
+    /** Removes the next value at current iterator position.
+        @return: the value removed
+    */
+    long removeNext();
+
+    /** Removes the previous value at current iterator position.
+        @return: the value removed
+    */
+    long removePrevious();
+
+    /** Updates the next value at current iterator position.
+        @param value: the new value to replace the next value
+    */
+    void setNext(long value);
+
+    /** Updates the previous value at current iterator position.
+        @param value: the new value to replace the previous value
+    */
+    void setPrevious(long value);
+
+    /** Inserts a new value at current iterator position.
+        @param value: the new value to insert into the list.
+    */
+    void add(long value);
+
+    /** Moves the iterator to the beginning of the list. */
+    void reset();
+}
\ No newline at end of file
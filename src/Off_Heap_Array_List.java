@@ -0,0 +1,357 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/** An array list storing encoded values outside the Java heap, in chunks of direct byte buffers
+    The values are encoded by a fixed-width codec, so the garbage collector never scans them (indexes are long).
+    The chunks are direct buffers, so their total size is capped by -XX:MaxDirectMemorySize (by default about
+    the maximum heap size, -Xmx); lists of billions of values need that flag raised. A released chunk is only
+    returned to the operating system once the garbage collector collects its buffer.
+*/
+public class Off_Heap_Array_List<T> implements Iterable<T> {
+    // Data fields
+    private final Codec<T> codec;  // Encodes and decodes the values
+    private final int width;  // The number of bytes of an encoded value
+    private final int chunkShift;  // log2 of the number of values per chunk
+    private final int chunkMask;  // The number of values per chunk - 1
+    private final int chunkBytes;  // The number of bytes per chunk
+    private ByteBuffer[] chunks;  // The direct buffers holding the encoded values
+    private int numOfChunks;  // The number of allocated chunks
+    private long numOfItems;  // The size of the array list
+    private byte[] scratch;  // Heap buffer used to shift the encoded values
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 26;  // Default size of a chunk (64 MB)
+    private static final int SCRATCH_BYTES = 1 << 16;  // Size of the heap buffer used to shift the encoded values
+
+    // Constructors
+
+    public Off_Heap_Array_List(Codec<T> codec) { this(codec, DEFAULT_CHUNK_BYTES); }  // Default constructor
+
+    /** Creates an empty off-heap array list.
+        @param codec: the codec encoding the values
+        @param chunkBytes: the maximum number of bytes per chunk (rounded down to a power-of-two number of values)
+        @throws NullPointerException: the codec is null.
+        @throws IllegalArgumentException: the codec width is not positive, or the chunk is smaller than one value.
+    */
+    public Off_Heap_Array_List(Codec<T> codec, int chunkBytes) {
+        if (codec == null) { throw new NullPointerException("Accessing null codec"); }
+        if (codec.width() <= 0) { throw new IllegalArgumentException("Illegal codec width: " + codec.width()); }
+        if (chunkBytes < codec.width()) { throw new IllegalArgumentException("Illegal chunk size: " + chunkBytes); }
+        this.codec = codec;
+        width = codec.width();
+        int valuesPerChunk = Integer.highestOneBit(chunkBytes / width);
+        chunkShift = Integer.numberOfTrailingZeros(valuesPerChunk);
+        chunkMask = valuesPerChunk - 1;
+        this.chunkBytes = valuesPerChunk * width;
+        chunks = new ByteBuffer[4];
+    }
+
+    public Off_Heap_Array_List(Off_Heap_Array_List<T> other) {  // Copy constructor
+        if (other == null) { throw new NullPointerException("Accessing null array list"); }
+        codec = other.codec;
+        width = other.width;
+        chunkShift = other.chunkShift;
+        chunkMask = other.chunkMask;
+        chunkBytes = other.chunkBytes;
+        chunks = new ByteBuffer[other.chunks.length];
+        for (int i = 0; i < other.numOfChunks; i++) {
+            ByteBuffer source = other.chunks[i].duplicate();
+            source.clear();
+            chunks[i] = allocateChunk();
+            chunks[i].put(source).clear();
+        }
+        numOfChunks = other.numOfChunks;
+        numOfItems = other.numOfItems;
+    }
+
+    // Methods
+
+    /** Returns the size of the array list.
+        @return: size of the array list
+    */
+    public final long size() { return numOfItems; }  // Time complexity: O(1)
+
+    /** Tests whether the array list is empty or not.
+        @return: {true} if the array list is empty; {false} otherwise
+    */
+    public final boolean isEmpty() { return size() == 0; }  // Time complexity: O(1)
+
+    /** Returns the number of values the allocated chunks can hold.
+        @return: the capacity of the array list
+    */
+    public final long capacity() { return (long)numOfChunks << chunkShift; }  // Time complexity: O(1)
+
+    /** Allocates an empty chunk in native memory.
+        @return: a direct buffer in native byte order
+    */
+    private ByteBuffer allocateChunk() { return ByteBuffer.allocateDirect(chunkBytes).order(ByteOrder.nativeOrder()); }
+
+    /** Returns the value at specified index.
+        @param index: the index of the value to return
+        @return: the value at specified index
+        @throws IndexOutOfBoundsException: index < 0 or index >= size
+    */
+    public final T get(long index) {
+        if (index < 0 || index >= size()) { throw new IndexOutOfBoundsException("Index out of bounds: " + index); }
+        return codec.decode(chunks[(int)(index >>> chunkShift)], (int)(index & chunkMask) * width);
+    }  // Time complexity: O(1)
+
+    /** Updates the value at specified index.
+        @param index: the index of the value to update
+        @param value: the new value to replace the value at the index
+        @throws IndexOutOfBoundsException: index < 0 or index >= size
+    */
+    public void set(long index, T value) {
+        if (index < 0 || index >= size()) { throw new IndexOutOfBoundsException("Index out of bounds: " + index); }
+        codec.encode(chunks[(int)(index >>> chunkShift)], (int)(index & chunkMask) * width, value);
+    }  // Time complexity: O(1)
+
+    /** Allocates one more chunk without changing the current values. */
+    private void reserve() {
+        if (numOfChunks == chunks.length) { chunks = Arrays.copyOf(chunks, 2 * chunks.length); }
+        chunks[numOfChunks++] = allocateChunk();
+    }  // Time complexity: O(1) amortized
+
+    /** Releases the chunks beyond the ones in use, keeping a number of spare chunks.
+        @param spare: the number of empty chunks to keep
+    */
+    private void release(int spare) {
+        long used = (numOfItems + chunkMask) >>> chunkShift;
+        while (numOfChunks > used + spare) { chunks[--numOfChunks] = null; }  // Freed when the buffer is collected
+    }  // Time complexity: O(1) amortized
+
+    /** Releases all the chunks that hold no value.
+        Their native memory is freed when the garbage collector collects the buffers, not by this call.
+    */
+    public final void trimToSize() { release(0); }  // Time complexity: O(1) amortized
+
+    /** Copies bytes between a logical byte position of the array list and the scratch buffer.
+        @param position: the logical byte position of the first byte
+        @param length: the number of bytes (not more than the scratch buffer)
+        @param write: {true} to copy from the scratch buffer into the chunks; {false} for the opposite direction
+    */
+    private void transfer(long position, int length, boolean write) {
+        int copied = 0;
+        while (copied < length) {
+            long p = position + copied;
+            int offset = (int)(p % chunkBytes);
+            int len = Math.min(length - copied, chunkBytes - offset);
+            ByteBuffer chunk = chunks[(int)(p / chunkBytes)].duplicate();
+            chunk.position(offset);
+            if (write) { chunk.put(scratch, copied, len); }
+            else { chunk.get(scratch, copied, len); }
+            copied += len;
+        }
+    }  // Time complexity: O(length)
+
+    /** Moves a range of bytes inside the array list, allowing the source and destination to overlap.
+        @param from: the logical byte position of the source
+        @param to: the logical byte position of the destination
+        @param count: the number of bytes to move
+    */
+    private void moveBytes(long from, long to, long count) {
+        if (count == 0) { return; }
+        if (scratch == null) { scratch = new byte[SCRATCH_BYTES]; }
+        if (to > from) {  // Shift right: copy from the end so unread source bytes are never overwritten.
+            for (long remaining = count; remaining > 0; ) {
+                int len = (int)Math.min(scratch.length, remaining);
+                remaining -= len;
+                transfer(from + remaining, len, false);
+                transfer(to + remaining, len, true);
+            }
+        } else {  // Shift left: copy from the beginning.
+            for (long done = 0; done < count; ) {
+                int len = (int)Math.min(scratch.length, count - done);
+                transfer(from + done, len, false);
+                transfer(to + done, len, true);
+                done += len;
+            }
+        }
+    }  // Time complexity: O(count)
+
+    /** Inserts a new value to the rear end of the array list.
+        @param value: the new value to insert to the array list
+        @return: always {true}
+    */
+    public boolean add(T value) {
+        if (numOfItems == capacity()) { reserve(); }
+        long index = numOfItems++;
+        codec.encode(chunks[(int)(index >>> chunkShift)], (int)(index & chunkMask) * width, value);
+        return true;
+    }  // Time complexity: O(1)
+
+    /** Inserts a new value at specified index into the array list.
+        @param index: the index to insert the new value
+        @param value: the new value to insert into the array list
+        @throws IndexOutOfBoundsException: index < 0 || index > size
+    */
+    public void insert(long index, T value) {
+        if (index < 0 || index > size()) { throw new IndexOutOfBoundsException("Index out of bounds: " + index); }
+        if (numOfItems == capacity()) { reserve(); }
+        moveBytes(index * width, (index + 1) * width, (size() - index) * width);  // Data shift
+        numOfItems++;
+        set(index, value);
+    }  // Time complexity: O(n)
+
+    /** Removes the value at specified index from the array list.
+        @param index: the index of the value to remove
+        @return: the value removed
+        @throws IndexOutOfBoundsException: index < 0 or index >= size
+    */
+    public final T remove(long index) {
+        T toBeRemoved = get(index);
+        moveBytes((index + 1) * width, index * width, (size() - index - 1) * width);  // Data shift
+        numOfItems--;
+        release(1);  // Keep one spare chunk so that alternating add/remove does not reallocate.
+        return toBeRemoved;
+    }  // Time complexity: O(n)
+
+    /** Returns the index of a target value (first occurrence) in the array list.
+        @param target: the target value to search in the array list
+        @return: the index of the target value (first occurrence) in the array list;
+                 or {-1} if the target value does not appear in the array list
+    */
+    public long indexOf(T target) {
+        for (long i = 0; i < size(); i++) {
+            if (get(i).equals(target)) { return i; }
+        }
+        return -1;
+    }  // Time complexity: O(n)
+
+    /** Tests whether a target value appears in the array list or not.
+        @param target: the target value to search in the array list
+        @return: {true} if the target value appears in the array list; {false} otherwise
+    */
+    public boolean contains(T target) { return indexOf(target) != -1; }  // Time complexity: O(n)
+
+    /** Removes all the values from the array list and releases all the chunks.
+        Their native memory is freed when the garbage collector collects the buffers, not by this call.
+    */
+    public final void clear() {
+        numOfItems = 0;
+        release(0);
+    }  // Time complexity: O(1) amortized
+
+    /** Customizes the output format for the array list.
+        @return: a string representing the output format of the array list
+    */
+    @Override
+    public final String toString() {
+        StringBuilder builder = new StringBuilder().append('[');
+        for (long i = 0; i < size(); i++) {
+            builder.append(get(i));
+            if (i != size() - 1) { builder.append(", "); }
+        }
+        return builder.append(']').toString();
+    }  // Time complexity: O(n)
+
+    /** Generates a list iterator positioned at the beginning of the array list.
+        @return: a list iterator positioned at the beginning of the array list
+    */
+    @Override
+    public List_Iterator<T> iterator() {
+        return new List_Iterator<T>() {
+            // Data fields
+            private long nextIndex = 0;  // The index on the right of the iterator
+            private long prevIndex = -1;  // The index on the left of the iterator
+
+            /** Tests whether there exists a next value at current iterator position.
+                @return: {true} if there exists a next value; {false} otherwise
+            */
+            @Override
+            public boolean hasNext() { return nextIndex != size(); }  // Time complexity: O(1)
+
+            /** Tests whether there exists a previous value at current iterator position.
+                @return: {true} if there exists a previous value; {false} otherwise
+            */
+            @Override
+            public boolean hasPrevious() { return prevIndex != -1; }  // Time complexity: O(1)
+
+            /** Moves the iterator forward one position and returns the value passed by.
+                @return: the value passed by during the iterator movement
+                @throws IndexOutOfBoundsException: the iterator is at the end of the array list.
+            */
+            @Override
+            public T next() {
+                if (!hasNext()) { throw new IndexOutOfBoundsException("Index out of bounds: " + nextIndex); }
+                prevIndex++;
+                nextIndex++;
+                return get(prevIndex);
+            }  // Time complexity: O(1)
+
+            /** Moves the iterator backword one position and returns the value passed by.
+                @return: the value passed by during the iterator movement
+                @throws IndexOutOfBoundsException: the iterator is at the beginning of the array list.
+            */
+            @Override
+            public T previous() {
+                if (!hasPrevious()) { throw new IndexOutOfBoundsException("Index out of bounds: " + prevIndex); }
+                nextIndex--;
+                prevIndex--;
+                return get(nextIndex);
+            }  // Time complexity: O(1)
+
+            /** Updates the next value at current iterator position.
+                @param value: the new value to replace the next value
+                @throws IndexOutOfBoundsException: the iterator is at the end of the array list.
+            */
+            @Override
+            public void setNext(T value) {
+                if (!hasNext()) { throw new IndexOutOfBoundsException("Index out of bounds: " + nextIndex); }
+                set(nextIndex, value);
+                next();
+            }  // Time complexity: O(1)
+
+            /** Updates the previous value at current iterator position.
+                @param value: the new value to replace the previous value
+                @throws IndexOutOfBoundsException: the iterator is at the beginning of the array list.
+            */
+            @Override
+            public void setPrevious(T value) {
+                if (!hasPrevious()) { throw new IndexOutOfBoundsException("Index out of bounds: " + prevIndex); }
+                set(prevIndex, value);
+            }  // Time complexity: O(1)
+
+            /** Removes the next value at current iterator position.
+                @return: the value removed
+                @throws IndexOutOfBoundsException: the iterator is at the end of the array list.
+            */
+            @Override
+            public T removeNext() {
+                if (!hasNext()) { throw new IndexOutOfBoundsException("Index out of bounds: " + nextIndex); }
+                return remove(nextIndex);
+            }  // Time complexity: O(n)
+
+            /** Removes the previous value at current iterator position.
+                @return: the value removed
+                @throws IndexOutOfBoundsException: the iterator is at the beginning of the array list.
+            */
+            @Override
+            public T removePrevious() {
+                if (!hasPrevious()) { throw new IndexOutOfBoundsException("Index out of bounds: " + prevIndex); }
+                previous();
+                return removeNext();
+            }  // Time complexity: O(n)
+
+            /** Inserts a new value at current iterator position.
+                @param value: the new value to insert into the array list.
+            */
+            @Override
+            public void add(T value) {
+                insert(nextIndex, value);
+                next();
+            }  // Time complexity: O(n)
+
+            /** Moves the iterator to the beginning of the array list. */
+            @Override
+            public void reset() {
+                prevIndex = -1;
+                nextIndex = 0;
+            }  // Time complexity: O(1)
+        };
+    }  // Time complexity: O(1)
+}
\ No newline at end of file
@@ -1,6 +1,6 @@
 // Created by Dayu Wang (dwang@stchas.edu) on 2020-06-04
 
-// Last updated by Dayu Wang (dwang@stchas.edu) on 2025-06-24
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
 
 
 /** An ordered array list with iterator */
@@ -9,6 +9,8 @@ public class Ordered_Array_List<T extends Comparable<T>> extends Array_List<T> {
 
     public Ordered_Array_List() { super(); }  // Default constructor
 
+    public Ordered_Array_List(Growth_Policy policy) { super(policy); }  // Constructor with a growth policy
+
     public Ordered_Array_List(Ordered_Array_List<T> other) { super(other); }  // Copy constructor
 
     // Methods
@@ -38,7 +40,7 @@ public class Ordered_Array_List<T extends Comparable<T>> extends Array_List<T> {
     */
     @Override
     public boolean add(T value) {
-        if (isEmpty() || value.compareTo(get(size() - 1)) >= 0) { return super.add(value); }
+        if (isEmpty() || value.compareTo(get(size() - 1)) > 0) { return super.add(value); }
         for (int i = 0; i < size(); i++) {
             if (get(i).compareTo(value) == 0) { return false; }
             if (get(i).compareTo(value) > 0) {
@@ -70,6 +72,116 @@ public class Ordered_Array_List<T extends Comparable<T>> extends Array_List<T> {
         numOfItems++;
     }  // Time complexity: O(n)
 
+    /** Tests whether a segment of values can be inserted at specified index without breaking the order.
+        @param index: the index to insert the first value of the segment
+        @param values: the array holding the values to insert
+        @param count: the number of values (from index 0) in the segment
+        @return: {true} if the segment is strictly increasing and fits between get(index - 1) and get(index);
+                 {false} otherwise
+    */
+    @SuppressWarnings("unchecked")
+    private boolean fitsAt(int index, Object[] values, int count) {
+        if (count == 0) { return true; }
+        for (int i = 1; i < count; i++) {
+            if (((T)values[i - 1]).compareTo((T)values[i]) >= 0) { return false; }
+        }
+        if (index != 0 && ((T)values[0]).compareTo(get(index - 1)) <= 0) { return false; }
+        return index == size() || ((T)values[count - 1]).compareTo(get(index)) < 0;
+    }  // Time complexity: O(k)
+
+    /** Inserts all the values of an array at specified index into the ordered array list.
+        @param index: the index to insert the first new value
+        @param values: the new values to insert into the ordered array list
+        @throws IndexOutOfBoundsException: index < 0 || index > size
+        @throws NullPointerException: the array is null.
+        @throws IllegalArgumentException: the new values already exist or are not inserted in order.
+    */
+    @Override
+    public void insertAll(int index, T[] values) {
+        if (index < 0 || index > size()) { throw new IndexOutOfBoundsException("Index out of bounds: " + index); }
+        if (values == null) { throw new NullPointerException("Accessing null array"); }
+        if (!fitsAt(index, values, values.length)) {
+            throw new IllegalArgumentException("New values already exist or are not inserted in order");
+        }
+        super.insertAll(index, values);
+    }  // Time complexity: O(n + k)
+
+    /** Inserts all the values of another array list at specified index into the ordered array list.
+        @param index: the index to insert the first new value
+        @param other: the array list holding the new values
+        @throws IndexOutOfBoundsException: index < 0 || index > size
+        @throws NullPointerException: the other array list is null.
+        @throws IllegalArgumentException: the new values already exist or are not inserted in order.
+    */
+    @Override
+    public void insertAll(int index, Array_List<T> other) {
+        if (index < 0 || index > size()) { throw new IndexOutOfBoundsException("Index out of bounds: " + index); }
+        if (other == null) { throw new NullPointerException("Accessing null array list"); }
+        if (other == this || !fitsAt(index, other.data, other.size())) {
+            throw new IllegalArgumentException("New values already exist or are not inserted in order");
+        }
+        super.insertAll(index, other);
+    }  // Time complexity: O(n + k)
+
+    /** Inserts all the values of an array into the ordered array list.
+        A strictly increasing batch greater than every existing value is appended with a single copy;
+        any other batch is inserted value by value.
+        @param values: the new values to insert into the ordered array list
+        @return: {true} if at least one new value has been inserted; {false} otherwise
+        @throws NullPointerException: the array is null.
+    */
+    @Override
+    public boolean addAll(T[] values) {
+        if (values == null) { throw new NullPointerException("Accessing null array"); }
+        if (fitsAt(size(), values, values.length)) { return super.addAll(values); }
+        boolean changed = false;
+        for (T value : values) {
+            if (add(value)) { changed = true; }
+        }
+        return changed;
+    }  // Time complexity: O(k) if the batch is appended in order; O(k * n) otherwise
+
+    /** Inserts all the values of another array list into the ordered array list.
+        A strictly increasing batch greater than every existing value is appended with a single copy;
+        any other batch is inserted value by value.
+        @param other: the array list holding the new values
+        @return: {true} if at least one new value has been inserted; {false} otherwise
+        @throws NullPointerException: the other array list is null.
+    */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(Array_List<T> other) {
+        if (other == null) { throw new NullPointerException("Accessing null array list"); }
+        if (other != this && fitsAt(size(), other.data, other.size())) { return super.addAll(other); }
+        Object[] values = other.toArray();
+        boolean changed = false;
+        for (Object value : values) {
+            if (add((T)value)) { changed = true; }
+        }
+        return changed;
+    }  // Time complexity: O(k) if the batch is appended in order; O(k * n) otherwise
+
+    /** Searches a target value in the beginning of a sorted array by binary search.
+        Shared with the nodes of B_Tree, which keep their values in the same layout.
+        @param values: the array holding values in strictly ascending order
+        @param size: the number of values (from index 0) to search
+        @param target: the target value to search
+        @return: the index of the target value; or (-(insertion point) - 1) if the target value does not appear,
+                 where the insertion point is the index of the first value greater than the target value
+    */
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<T>> int search(Object[] values, int size, T target) {
+        int i = 0, j = size - 1;
+        while (i <= j) {
+            int mid = (i + j) >>> 1;
+            int comparison = target.compareTo((T)values[mid]);
+            if (comparison < 0) { j = mid - 1; }
+            else if (comparison > 0) { i = mid + 1; }
+            else { return mid; }
+        }
+        return -(i + 1);
+    }  // Time complexity: O(log(n))
+
     /** Returns the index of a target value in the ordered array list.
         @param target: the target value to search in the ordered array list
         @return: the index of the target value in the ordered array list;
@@ -77,14 +189,8 @@ public class Ordered_Array_List<T extends Comparable<T>> extends Array_List<T> {
     */
     @Override
     public int indexOf(T target) {
-        int i = 0, j = size() - 1;
-        while (i <= j) {
-            int mid = (i + j) / 2;
-            if (target.compareTo(get(mid)) < 0) { j = mid - 1; }
-            else if (target.compareTo(get(mid)) > 0) { i = mid + 1; }
-            else { return mid; }
-        }
-        return -1;
+        int index = search(data, size(), target);
+        return index >= 0 ? index : -1;
     }  // Time complexity: O(log(n))
 
     /** Tests whether a target value appears in the ordered array list or not.
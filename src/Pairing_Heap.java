@@ -0,0 +1,148 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/** A pairing heap (a heap-ordered multiway tree)
+    offer and meld only link two roots, so they are O(1); poll removes the root and pairs up its children
+    in two passes (left to right, then right to left), which is O(log(n)) amortized.
+*/
+public class Pairing_Heap<T> implements Heap<T> {
+    /** A node of the pairing heap */
+    private static final class Node<T> {
+        // Data fields
+        final T data;  // The data stored in the node
+        Node<T> child;  // A reference to the first child node
+        Node<T> sibling;  // A reference to the next sibling node
+
+        // Constructors
+
+        Node(T data) { this.data = data; }
+    }
+
+    // Data fields
+    private Node<T> root;  // A reference to the root node
+    private int size;  // The number of values in the heap
+    private final Comparator<? super T> comparator;  // The order of the values; {null} for the natural order
+
+    // Constructors
+
+    public Pairing_Heap() { this(null); }  // Default constructor
+
+    public Pairing_Heap(Comparator<? super T> comparator) { this.comparator = comparator; }  // Constructor with a comparator
+
+    // Methods
+
+    /** Returns the size of the heap.
+        @return: the size of the heap
+    */
+    @Override
+    public final int size() { return size; }  // Time complexity: O(1)
+
+    /** Tests whether the heap is empty.
+        @return: {true} if the heap is empty; {false} otherwise
+    */
+    @Override
+    public final boolean isEmpty() { return root == null; }  // Time complexity: O(1)
+
+    /** Compares two values by the comparator, or by their natural order without a comparator.
+        @param a: the first value
+        @param b: the second value
+        @return: a negative number, zero, or a positive number as {a} is less than, equal to, or greater than {b}
+    */
+    @SuppressWarnings("unchecked")
+    private int compare(T a, T b) {
+        return comparator == null ? ((Comparable<? super T>)a).compareTo(b) : comparator.compare(a, b);
+    }  // Time complexity: O(1)
+
+    /** Links two heap-ordered trees, making the root with the greater value the first child of the other root.
+        @param a: a reference to the root node of the first tree (without siblings)
+        @param b: a reference to the root node of the second tree (without siblings)
+        @return: a reference to the root node of the linked tree
+    */
+    private Node<T> link(Node<T> a, Node<T> b) {
+        if (a == null) { return b; }
+        if (b == null) { return a; }
+        if (compare(b.data, a.data) < 0) {
+            Node<T> temp = a;
+            a = b;
+            b = temp;
+        }
+        b.sibling = a.child;
+        a.child = b;
+        return a;
+    }  // Time complexity: O(1)
+
+    /** Returns the value with the highest priority.
+        @return: value with the highest priority
+        @throws NoSuchElementException: the heap is empty.
+    */
+    @Override
+    public T peek() {
+        if (isEmpty()) { throw new NoSuchElementException("Accessing empty queue"); }
+        return root.data;
+    }  // Time complexity: O(1)
+
+    /** Removes and returns the value with the highest priority.
+        @return: value removed
+        @throws NoSuchElementException: the heap is empty.
+    */
+    @Override
+    public T poll() {
+        T toBeRemoved = peek();
+        // First pass: link the children in pairs from left to right, chaining the results in reverse order.
+        Node<T> pairs = null, p = root.child;
+        while (p != null) {
+            Node<T> a = p, b = p.sibling;
+            p = b == null ? null : b.sibling;
+            a.sibling = null;
+            if (b != null) { b.sibling = null; }
+            Node<T> pair = link(a, b);
+            pair.sibling = pairs;
+            pairs = pair;
+        }
+        // Second pass: link the pairs from right to left into a single tree.
+        Node<T> newRoot = null;
+        while (pairs != null) {
+            Node<T> next = pairs.sibling;
+            pairs.sibling = null;
+            newRoot = link(newRoot, pairs);
+            pairs = next;
+        }
+        root = newRoot;
+        size--;
+        return toBeRemoved;
+    }  // Time complexity: O(log(n)) amortized
+
+    /** Inserts a new element to the heap.
+        @param value: element to add to the heap
+    */
+    @Override
+    public void offer(T value) {
+        root = link(root, new Node<>(value));
+        size++;
+    }  // Time complexity: O(1)
+
+    /** Moves all the values of another heap into this heap, leaving the other heap empty.
+        If the other heap is a pairing heap with the same order, the two roots are linked;
+        otherwise its values are polled one by one.
+        @param other: the heap to meld into this heap
+        @throws NullPointerException: the other heap is null.
+        @throws IllegalArgumentException: the other heap is this heap.
+    */
+    @Override
+    public void meld(Heap<T> other) {
+        if (!(other instanceof Pairing_Heap) || other == this || ((Pairing_Heap<T>)other).comparator != comparator) {
+            Heap.super.meld(other);
+            return;
+        }
+        Pairing_Heap<T> heap = (Pairing_Heap<T>)other;
+        root = link(root, heap.root);
+        size += heap.size;
+        heap.root = null;
+        heap.size = 0;
+    }  // Time complexity: O(1) for a pairing heap with the same order
+}
\ No newline at end of file
@@ -0,0 +1,232 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** A persistent (path-copying) binary search tree for read-mostly concurrent use
+    Nodes are immutable: insert and remove copy the nodes along the search path and share every other subtree
+    with the previous version, then publish the new root with a CAS (retrying if another writer got there first).
+    Readers never lock and never see a half-done update; an iterator or a snapshot keeps reading the version
+    that was current when it was created, whatever the writers do afterwards.
+*/
+public class Persistent_Binary_Search_Tree<T extends Comparable<T>> implements Iterable<T> {
+    /** An immutable binary tree node */
+    private static final class Node<T> {
+        // Data fields
+        final T data;  // The data stored in the node
+        final Node<T> left;  // A reference to the left child node
+        final Node<T> right;  // A reference to the right child node
+        final int size;  // The number of nodes in the subtree rooted at this node
+
+        // Constructors
+
+        Node(T data, Node<T> left, Node<T> right) {
+            this.data = data;
+            this.left = left;
+            this.right = right;
+            size = 1 + (left == null ? 0 : left.size) + (right == null ? 0 : right.size);
+        }
+    }
+
+    // Data fields
+    private final AtomicReference<Node<T>> root;  // A reference to the root node of the current version
+
+    // Constructors
+
+    public Persistent_Binary_Search_Tree() { root = new AtomicReference<>(); }  // Default constructor
+
+    private Persistent_Binary_Search_Tree(Node<T> root) { this.root = new AtomicReference<>(root); }
+
+    // Methods
+
+    /** Returns a snapshot of the binary search tree, sharing all its nodes.
+        Later updates to either tree are not visible in the other.
+        @return: a binary search tree holding the values of the current version
+    */
+    public final Persistent_Binary_Search_Tree<T> snapshot() {
+        return new Persistent_Binary_Search_Tree<>(root.get());
+    }  // Time complexity: O(1)
+
+    /** Returns the size of the binary search tree.
+        @return: the number of values in the current version
+    */
+    public final int size() {
+        Node<T> node = root.get();
+        return node == null ? 0 : node.size;
+    }  // Time complexity: O(1)
+
+    /** Tests whether the binary search tree is empty or not.
+        @return: {true} if the current version is empty; {false} otherwise
+    */
+    public final boolean isEmpty() { return root.get() == null; }  // Time complexity: O(1)
+
+    /** Tests whether a target value appears in the binary search tree.
+        @param target: the target value to search in the binary search tree
+        @return: {true} if the target value appears in the current version; {false} otherwise
+    */
+    public final boolean contains(T target) {
+        Node<T> p = root.get();
+        while (p != null) {
+            int comparison = target.compareTo(p.data);
+            if (comparison == 0) { return true; }
+            p = comparison < 0 ? p.left : p.right;
+        }
+        return false;
+    }  // Time complexity: O(h)
+
+    /** Rebuilds the ancestors of a replaced subtree, from the bottom of the path up to the root.
+        @param path: the ancestors of the replaced subtree (the root at the bottom of the stack)
+        @param child: the non-null node that was replaced
+        @param replacement: the node taking its place (may be null)
+        @return: the root node of the new version
+    */
+    private static <T> Node<T> rebuild(Array_Stack<Node<T>> path, Node<T> child, Node<T> replacement) {
+        while (!path.isEmpty()) {
+            Node<T> parent = path.pop();
+            replacement = parent.left == child ? new Node<>(parent.data, replacement, parent.right)
+                                               : new Node<>(parent.data, parent.left, replacement);
+            child = parent;
+        }
+        return replacement;
+    }  // Time complexity: O(h)
+
+    /** Inserts a new value into the binary search tree.
+        @param value: the new value to insert into the binary search tree
+        @return: {true} if the new value is inserted; {false} if the new value already exists in the binary search tree.
+    */
+    public final boolean insert(T value) {
+        Array_Stack<Node<T>> path = new Array_Stack<>();
+        while (true) {
+            Node<T> oldRoot = root.get(), p = oldRoot;
+            int comparison = 0;
+            while (p != null) {
+                comparison = value.compareTo(p.data);
+                if (comparison == 0) { return false; }
+                path.push(p);
+                p = comparison < 0 ? p.left : p.right;
+            }
+            Node<T> newRoot = new Node<>(value, null, null);
+            if (!path.isEmpty()) {  // Attach the new leaf to a copy of its parent (both children may be null).
+                Node<T> parent = path.pop();
+                newRoot = rebuild(path, parent, comparison < 0 ? new Node<>(parent.data, newRoot, parent.right)
+                                                               : new Node<>(parent.data, parent.left, newRoot));
+            }
+            if (root.compareAndSet(oldRoot, newRoot)) { return true; }
+            // Another writer published a new version first: apply the insertion to that version.
+        }
+    }  // Time complexity: O(h) without contention
+
+    /** Removes a value from the binary search tree.
+        @param value: the value to remove from the binary search tree
+        @return: {true} if the value is removed; {false} if the value does not exist in the binary search tree.
+    */
+    public final boolean remove(T value) {
+        Array_Stack<Node<T>> path = new Array_Stack<>();
+        while (true) {
+            Node<T> oldRoot = root.get(), p = oldRoot;
+            while (p != null) {
+                int comparison = value.compareTo(p.data);
+                if (comparison == 0) { break; }
+                path.push(p);
+                p = comparison < 0 ? p.left : p.right;
+            }
+            if (p == null) { return false; }
+            Node<T> replacement;
+            if (p.left == null) { replacement = p.right; }
+            else if (p.right == null) { replacement = p.left; }
+            else {  // Replace the value with its inorder predecessor (the maximum of the left subtree).
+                Array_Stack<Node<T>> spine = new Array_Stack<>();
+                Node<T> predecessor = p.left;
+                while (predecessor.right != null) {
+                    spine.push(predecessor);
+                    predecessor = predecessor.right;
+                }
+                Node<T> newLeft = rebuild(spine, predecessor, predecessor.left);
+                replacement = new Node<>(predecessor.data, newLeft, p.right);
+            }
+            Node<T> newRoot = rebuild(path, p, replacement);
+            if (root.compareAndSet(oldRoot, newRoot)) { return true; }
+            // Another writer published a new version first: apply the removal to that version.
+        }
+    }  // Time complexity: O(h) without contention
+
+    /** Generates an iterator over the version current at the time of the call.
+        @return: an iterator positioned at the beginning of the binary search tree
+    */
+    @Override
+    public final Iterator<T> iterator() {
+        return new Iterator<T>() {
+            // Data field
+            private final Array_Stack<Node<T>> stack = initialize();  // Nodes along the path
+
+            // Methods
+
+            /** Initializes the stack for the binary search tree iterator.
+                @return: the initial stack for the binary search tree iterator
+            */
+            private Array_Stack<Node<T>> initialize() {
+                Array_Stack<Node<T>> stack = new Array_Stack<>();
+                pushAllLeft(root.get(), stack);
+                return stack;
+            }  // Time complexity: O(h)
+
+            /** Pushes all the left nodes onto a stack.
+                @param node: the initial binary search tree node
+                @param stack: the stack to store the nodes
+            */
+            private void pushAllLeft(Node<T> node, Array_Stack<Node<T>> stack) {
+                while (node != null) {
+                    stack.push(node);
+                    node = node.left;
+                }
+            }  // Time complexity: O(h)
+
+            /** Tests whether there exists a next value in the version being iterated.
+                @return: {true} if there exists a next value; {false} if the iterator is at the end of the tree
+            */
+            @Override
+            public boolean hasNext() { return !stack.isEmpty(); }  // Time complexity: O(1)
+
+            /** Moves the iterator forward one position and returns the value passed by.
+                @return: the value passed by during the iterator movement
+                @throws NoSuchElementException: the iterator is at the end of the binary search tree.
+            */
+            @Override
+            public T next() {
+                if (!hasNext()) { throw new NoSuchElementException("Accessing null reference"); }
+                Node<T> node = stack.pop();
+                pushAllLeft(node.right, stack);
+                return node.data;
+            }  // Time complexity: O(h)
+
+            /** Removes the next value from the current version of the tree.
+                The iterator itself goes on over the version it started with.
+                @return: the value removed
+                @throws NoSuchElementException: the iterator is at the end of the binary search tree.
+            */
+            @Override
+            public T removeNext() {
+                T value = next();
+                remove(value);
+                return value;
+            }  // Time complexity: O(h)
+        };
+    }  // Time complexity: O(h)
+
+    /** Customizes the output format for the binary search tree.
+        @return: a string representing the values of the current version in ascending order
+    */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Iterator<T> it = iterator();
+        while (it.hasNext()) {
+            builder.append(it.next());
+            if (it.hasNext()) { builder.append(", "); }
+        }
+        return builder.append(']').toString();
+    }  // Time complexity: O(n)
+}
\ No newline at end of file
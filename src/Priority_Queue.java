@@ -1,6 +1,6 @@
 // Created by Dayu Wang (dwang@stchas.edu) on 2025-08-01
 
-// Last updated by Dayu Wang (dwang@stchas.edu) on 2025-08-01
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
 
 
 import java.util.ArrayList;
@@ -9,7 +9,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 
 /** A min-heap priority queue */
-public class Priority_Queue<T extends Comparable<T>> {
+public class Priority_Queue<T extends Comparable<T>> implements Heap<T> {
     // Data fields
     private final List<T> heap;
 
@@ -24,17 +24,20 @@ public class Priority_Queue<T extends Comparable<T>> {
     /** Returns the size of the priority queue.
         @return: the size of the priority queue
     */
+    @Override
     public final int size() { return heap.size(); }  // Time complexity: O(1)
 
     /** Tests whether the priority queue is empty.
         @return: {true} if the priority queue is empty; {false} otherwise
     */
+    @Override
     public final boolean isEmpty() { return size() == 0; }  // Time complexity: O(1)
 
     /** Returns the value with the highest priority.
         @return: value with the highest priority
         @throws NoSuchElementException: the priority queue is empty.
     */
+    @Override
     public T peek() {
         if (isEmpty()) { throw new NoSuchElementException("Accessing empty queue"); }
         return heap.get(0);
@@ -44,6 +47,7 @@ public class Priority_Queue<T extends Comparable<T>> {
         @return: value removed
         @throws NoSuchElementException: the priority queue is empty.
     */
+    @Override
     public T poll() {
         if (isEmpty()) { throw new NoSuchElementException("Accessing empty queue"); }
         T toBeRemoved = heap.get(0);
@@ -72,6 +76,7 @@ public class Priority_Queue<T extends Comparable<T>> {
     /** Inserts a new element to the priority queue.
         @param value: element to add to the queue
     */
+    @Override
     public void offer(T value) {
         // Add the new element to the end of the heap.
         heap.add(value);
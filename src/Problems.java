@@ -1,6 +1,6 @@
 // Created by Dayu Wang (dwang@stchas.edu) on 2025-06-18
 
-// Last updated by Dayu Wang (dwang@stchas.edu) on 2025-08-01
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
 
 
 import java.util.ArrayList;
@@ -171,7 +171,19 @@ public class Problems {
     */
     public static <T> int height(BTNode<T> root) {
         if (root == null) { return 0; }
-        return Math.max(height(root.left), height(root.right)) + 1;
+        // Level-order traverse the binary tree, counting the levels.
+        Circular_Array_Queue<BTNode<T>> queue = new Circular_Array_Queue<>();
+        queue.offer(root);
+        int height = 0;
+        while (!queue.isEmpty()) {
+            height++;
+            for (int count = queue.size(); count > 0; count--) {
+                BTNode<T> node = queue.poll();
+                if (node.left != null) { queue.offer(node.left); }
+                if (node.right != null) { queue.offer(node.right); }
+            }
+        }
+        return height;
     }  // Time complexity: O(n)
 
     /** Tests whether a binary tree is full.
@@ -179,25 +191,32 @@ public class Problems {
         @return: {true} if the binary tree is full; {false} otherwise
     */
     public static <T> boolean isFull(BTNode<T> root) {
-        // Base case
         if (root == null) { return true; }
-        // Count non-null children of the root.
-        int count = 0;
-        if (root.left != null) { count++; }
-        if (root.right != null) { count++; }
-        if (count == 1) { return false; }  // Not full
-        // Recurrence relation
-        return isFull(root.left) && isFull(root.right);
+        Array_Stack<BTNode<T>> stack = new Array_Stack<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            BTNode<T> node = stack.pop();
+            if ((node.left == null) != (node.right == null)) { return false; }  // Exactly one child: not full
+            if (node.left != null) {
+                stack.push(node.right);
+                stack.push(node.left);
+            }
+        }
+        return true;
     }  // Time complexity: O(n)
 
     /** Preorder traverses a binary tree.
         @param root: a reference to the root of the binary tree
     */
     public static <T> void preorderTraversal(BTNode<T> root) {
-        if (root != null) {
-            System.out.print(root.data.toString() + ' ');
-            preorderTraversal(root.left);
-            preorderTraversal(root.right);
+        if (root == null) { return; }
+        Array_Stack<BTNode<T>> stack = new Array_Stack<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            BTNode<T> node = stack.pop();
+            System.out.print(node.data.toString() + ' ');
+            if (node.right != null) { stack.push(node.right); }  // Pushed first, so visited after the left subtree
+            if (node.left != null) { stack.push(node.left); }
         }
     }  // Time complexity: O(n)
 
@@ -205,10 +224,16 @@ public class Problems {
         @param root: a reference to the root of the binary tree
     */
     public static <T> void inorderTraversal(BTNode<T> root) {
-        if (root != null) {
-            inorderTraversal(root.left);
-            System.out.print(root.data.toString() + ' ');
-            inorderTraversal(root.right);
+        Array_Stack<BTNode<T>> stack = new Array_Stack<>();  // Nodes whose left subtrees are being visited
+        BTNode<T> p = root;
+        while (p != null || !stack.isEmpty()) {
+            while (p != null) {
+                stack.push(p);
+                p = p.left;
+            }
+            p = stack.pop();
+            System.out.print(p.data.toString() + ' ');
+            p = p.right;
         }
     }  // Time complexity: O(n)
 
@@ -216,10 +241,19 @@ public class Problems {
         @param root: reference to the root of the binary tree
     */
     public static <T> void postorderTraversal(BTNode<T> root) {
-        if (root != null) {
-            postorderTraversal(root.left);
-            postorderTraversal(root.right);
-            System.out.print(root.data.toString() + ' ');
+        Array_Stack<BTNode<T>> stack = new Array_Stack<>();  // Nodes whose subtrees are being visited
+        BTNode<T> p = root, lastVisited = null;
+        while (p != null || !stack.isEmpty()) {
+            while (p != null) {
+                stack.push(p);
+                p = p.left;
+            }
+            BTNode<T> node = stack.peek();
+            if (node.right != null && node.right != lastVisited) { p = node.right; }  // Visit the right subtree first.
+            else {
+                System.out.print(node.data.toString() + ' ');
+                lastVisited = stack.pop();
+            }
         }
     }  // Time complexity: O(n)
 
@@ -228,18 +262,18 @@ public class Problems {
         @return: a sorted list generated from the binary search tree
     */
     public static <T> List<T> toSortedList(BTNode<T> root) {
-        // Base case
-        if (root == null) { return new ArrayList<>(); }
-        // Generate a sorted list representing the left subtree.
-        List<T> left = new ArrayList<>();
-        if (root.left != null) { left = toSortedList(root.left); }
-        // Generate a sorted list representing the right subtree.
-        List<T> right = new ArrayList<>();
-        if (root.right != null) { right = toSortedList(root.right); }
-        // Generate the result list.
-        List<T> result = new ArrayList<>(left);
-        result.add(root.data);
-        result.addAll(right);
+        List<T> result = new ArrayList<>();
+        Array_Stack<BTNode<T>> stack = new Array_Stack<>();  // Nodes whose left subtrees are being visited
+        BTNode<T> p = root;
+        while (p != null || !stack.isEmpty()) {
+            while (p != null) {
+                stack.push(p);
+                p = p.left;
+            }
+            p = stack.pop();
+            result.add(p.data);
+            p = p.right;
+        }
         return result;
     }  // Time complexity: O(n)
 
@@ -0,0 +1,193 @@
+// Created by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
+
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+/** Least-significant-digit radix sort for int and long arrays
+    Each pass distributes the values by one digit (8 to 16 bits wide) into a buffer, in O(n) time and without
+    comparisons. The sign bit is flipped so that negative values come first. All the digit histograms are counted
+    in a single pass, and a digit that is the same for every value is skipped. Large arrays are split into one
+    chunk per processor; the chunks are counted and scattered in parallel.
+*/
+public class Radix_Sort {
+    private static final int DEFAULT_DIGIT_BITS = 11;  // Default digit width (3 passes for int, 6 for long)
+    private static final int MAX_DIGIT_BITS = 16;  // Widest digit (65536 buckets)
+    private static final int PARALLEL_CHUNK = 1 << 16;  // Minimum number of values given to one thread
+
+    /** Checks a digit width.
+        @param digitBits: the number of bits of a digit
+        @throws IllegalArgumentException: digitBits < 1 or digitBits > 16
+    */
+    private static void checkDigitBits(int digitBits) {
+        if (digitBits < 1 || digitBits > MAX_DIGIT_BITS) { throw new IllegalArgumentException("Illegal digit size: " + digitBits); }
+    }  // Time complexity: O(1)
+
+    /** Returns the number of chunks an array is split into.
+        @param n: the length of the array
+        @return: the number of chunks (one per processor, each holding at least PARALLEL_CHUNK values)
+    */
+    private static int chunks(int n) {
+        return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), n / PARALLEL_CHUNK));
+    }  // Time complexity: O(1)
+
+    /** Returns the index of the first value of a chunk.
+        @param n: the length of the array
+        @param chunks: the number of chunks
+        @param chunk: the index of the chunk (or {chunks} for the end of the array)
+        @return: the index of the first value of the chunk
+    */
+    private static int bound(int n, int chunks, int chunk) { return (int)((long)n * chunk / chunks); }  // Time complexity: O(1)
+
+    /** Runs a task for every chunk, in parallel on the common fork/join pool if there is more than one chunk.
+        @param chunks: the number of chunks
+        @param body: the task, receiving the index of the chunk
+    */
+    private static void forEachChunk(int chunks, IntConsumer body) {
+        if (chunks == 1) {
+            body.accept(0);
+            return;
+        }
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunks];
+        for (int c = 0; c < chunks; c++) {
+            int chunk = c;
+            tasks[c] = ForkJoinTask.adapt(() -> body.accept(chunk));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }  // Time complexity: O(n / p) per chunk
+
+    /** Computes where every chunk writes the values of every bucket, so that the scatter is stable.
+        @param counts: counts[c][b] is the number of values of chunk c whose digit is b
+        @return: offsets[c][b], the index in the buffer of the first value of chunk c whose digit is b
+    */
+    private static int[][] offsets(int[][] counts) {
+        int chunks = counts.length, radix = counts[0].length, start = 0;
+        int[][] offsets = new int[chunks][radix];
+        for (int b = 0; b < radix; b++) {
+            for (int c = 0; c < chunks; c++) {
+                offsets[c][b] = start;
+                start += counts[c][b];
+            }
+        }
+        return offsets;
+    }  // Time complexity: O(p * 2 ^ digitBits)
+
+    /** Tests whether every value has the same digit, using the histograms of that digit.
+        @param counts: counts[c][b] is the number of values of chunk c whose digit is b
+        @param bucket: the digit of any value
+        @param n: the number of values
+        @return: {true} if all the n values fall in the bucket; {false} otherwise
+    */
+    private static boolean isConstant(int[][] counts, int bucket, int n) {
+        long total = 0;
+        for (int[] count : counts) { total += count[bucket]; }
+        return total == n;
+    }  // Time complexity: O(p)
+
+    // Wrapper method
+    public static void sort(int[] arr) { sort(arr, DEFAULT_DIGIT_BITS); }  // Time complexity: O(n)
+
+    /** Sorts an array of int values.
+        @param arr: array to sort
+        @param digitBits: the number of bits sorted by each pass (typically 8, 11, or 16)
+        @throws IllegalArgumentException: digitBits < 1 or digitBits > 16
+    */
+    public static void sort(int[] arr, int digitBits) {
+        checkDigitBits(digitBits);
+        int n = arr.length, digits = (Integer.SIZE + digitBits - 1) / digitBits, mask = (1 << digitBits) - 1;
+        if (n < 2) { return; }
+        int chunks = chunks(n);
+        // Count every digit of every value in one pass; the sign bit is flipped so that negative values come first.
+        int[][][] counts = new int[digits][chunks][mask + 1];  // counts[d][c][b]: values of chunk c whose digit d is b
+        forEachChunk(chunks, c -> {
+            for (int i = bound(n, chunks, c), end = bound(n, chunks, c + 1); i < end; i++) {
+                int key = arr[i] ^ Integer.MIN_VALUE;
+                for (int d = 0; d < digits; d++) { counts[d][c][key >>> d * digitBits & mask]++; }
+            }
+        });
+        int first = arr[0] ^ Integer.MIN_VALUE;
+        int[] src = arr, dst = null;
+        boolean moved = false;  // Whether a pass has moved values between chunks (making the chunk counts stale)
+        for (int d = 0; d < digits; d++) {
+            int shift = d * digitBits;
+            if (isConstant(counts[d], first >>> shift & mask, n)) { continue; }  // The pass would not move anything.
+            if (dst == null) { dst = new int[n]; }
+            int[] from = src, to = dst;
+            int[][] count = counts[d];
+            if (moved && chunks > 1) {  // Recount this digit over the values now in each chunk.
+                forEachChunk(chunks, c -> {
+                    Arrays.fill(count[c], 0);
+                    for (int i = bound(n, chunks, c), end = bound(n, chunks, c + 1); i < end; i++) {
+                        count[c][(from[i] ^ Integer.MIN_VALUE) >>> shift & mask]++;
+                    }
+                });
+            }
+            int[][] offsets = offsets(count);
+            forEachChunk(chunks, c -> {
+                int[] offset = offsets[c];
+                for (int i = bound(n, chunks, c), end = bound(n, chunks, c + 1); i < end; i++) {
+                    to[offset[(from[i] ^ Integer.MIN_VALUE) >>> shift & mask]++] = from[i];
+                }
+            });
+            src = to;
+            dst = from;
+            moved = true;
+        }
+        if (src != arr) { System.arraycopy(src, 0, arr, 0, n); }
+    }  // Time complexity: O((n + 2 ^ digitBits) * 32 / digitBits)
+
+    // Wrapper method
+    public static void sort(long[] arr) { sort(arr, DEFAULT_DIGIT_BITS); }  // Time complexity: O(n)
+
+    /** Sorts an array of long values.
+        @param arr: array to sort
+        @param digitBits: the number of bits sorted by each pass (typically 8, 11, or 16)
+        @throws IllegalArgumentException: digitBits < 1 or digitBits > 16
+    */
+    public static void sort(long[] arr, int digitBits) {
+        checkDigitBits(digitBits);
+        int n = arr.length, digits = (Long.SIZE + digitBits - 1) / digitBits, mask = (1 << digitBits) - 1;
+        if (n < 2) { return; }
+        int chunks = chunks(n);
+        // Count every digit of every value in one pass; the sign bit is flipped so that negative values come first.
+        int[][][] counts = new int[digits][chunks][mask + 1];  // counts[d][c][b]: values of chunk c whose digit d is b
+        forEachChunk(chunks, c -> {
+            for (int i = bound(n, chunks, c), end = bound(n, chunks, c + 1); i < end; i++) {
+                long key = arr[i] ^ Long.MIN_VALUE;
+                for (int d = 0; d < digits; d++) { counts[d][c][(int)(key >>> d * digitBits) & mask]++; }
+            }
+        });
+        long first = arr[0] ^ Long.MIN_VALUE;
+        long[] src = arr, dst = null;
+        boolean moved = false;  // Whether a pass has moved values between chunks (making the chunk counts stale)
+        for (int d = 0; d < digits; d++) {
+            int shift = d * digitBits;
+            if (isConstant(counts[d], (int)(first >>> shift) & mask, n)) { continue; }  // The pass would not move anything.
+            if (dst == null) { dst = new long[n]; }
+            long[] from = src, to = dst;
+            int[][] count = counts[d];
+            if (moved && chunks > 1) {  // Recount this digit over the values now in each chunk.
+                forEachChunk(chunks, c -> {
+                    Arrays.fill(count[c], 0);
+                    for (int i = bound(n, chunks, c), end = bound(n, chunks, c + 1); i < end; i++) {
+                        count[c][(int)((from[i] ^ Long.MIN_VALUE) >>> shift) & mask]++;
+                    }
+                });
+            }
+            int[][] offsets = offsets(count);
+            forEachChunk(chunks, c -> {
+                int[] offset = offsets[c];
+                for (int i = bound(n, chunks, c), end = bound(n, chunks, c + 1); i < end; i++) {
+                    to[offset[(int)((from[i] ^ Long.MIN_VALUE) >>> shift) & mask]++] = from[i];
+                }
+            });
+            src = to;
+            dst = from;
+            moved = true;
+        }
+        if (src != arr) { System.arraycopy(src, 0, arr, 0, n); }
+    }  // Time complexity: O((n + 2 ^ digitBits) * 64 / digitBits)
+}
\ No newline at end of file
@@ -1,11 +1,19 @@
 // Created by Dayu Wang (dwang@stchas.edu) on 2025-08-01
 
-// Last updated by Dayu Wang (dwang@stchas.edu) on 2025-08-01
+// Last updated by Dayu Wang (dwang@stchas.edu) on 2026-10-17
 
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class Sorting {
+    private static final int INSERTION_SORT_CUTOFF = 32;  // Ranges up to this length are insertion sorted
+    private static final int PARALLEL_SORT_CUTOFF = 1 << 13;  // Ranges up to this length are sorted by one task
+    private static final int PARALLEL_MERGE_CUTOFF = 1 << 13;  // Merges up to this length are done by one task
+    private static final int MAX_RUN_COUNT = 64;  // Arrays with more ascending/descending runs are introsorted
+
     // Selection sort
     public static void selectionSort(int[] arr) {
         for (int i = 0; i < arr.length; i++) {
@@ -40,10 +48,17 @@ public class Sorting {
     }  // Time complexity: O(n ^ 2)
 
     // Insertion sort
-    public static void insertionSort(int[] arr) {
-        for (int cur = 1; cur < arr.length; cur++) {
+    public static void insertionSort(int[] arr) { insertionSort(arr, 0, arr.length); }  // Time complexity: O(n ^ 2)
+
+    /** Sorts a range of an array by insertion sort.
+        @param arr: array to sort
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+    */
+    public static void insertionSort(int[] arr, int from, int to) {
+        for (int cur = from + 1; cur < to; cur++) {
             int mark = arr[cur], j;
-            for (j = cur; j > 0 && arr[j - 1] > mark; j--) { arr[j] = arr[j - 1]; }
+            for (j = cur; j > from && arr[j - 1] > mark; j--) { arr[j] = arr[j - 1]; }
             arr[j] = mark;
         }
     }  // Time complexity: O(n ^ 2)
@@ -72,4 +87,694 @@ public class Sorting {
         mergeSort(rightHalf);  // Recursion
         merge(leftHalf, rightHalf, arr);
     }  // Time complexity: O(n * log(n))
+
+    /** Merges two sorted ranges of an array into another array.
+        @param src: array holding the two sorted ranges
+        @param lo1: index of the first value of the first range
+        @param hi1: index after the last value of the first range
+        @param lo2: index of the first value of the second range
+        @param hi2: index after the last value of the second range
+        @param dst: array receiving the merged values
+        @param out: index in {dst} of the first merged value
+    */
+    private static void merge(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out) {
+        while (lo1 < hi1 && lo2 < hi2) { dst[out++] = src[lo1] <= src[lo2] ? src[lo1++] : src[lo2++]; }
+        System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+        System.arraycopy(src, lo2, dst, out + hi1 - lo1, hi2 - lo2);
+    }  // Time complexity: O(n)
+
+    /** Sorts a range of an array into another array holding the same values in that range.
+        The two arrays swap roles at every level, so no level allocates or copies back.
+        @param src: array holding the values to sort (used as scratch space)
+        @param dst: array receiving the sorted values
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+    */
+    private static void mergeSort(int[] src, int[] dst, int from, int to) {
+        if (to - from <= INSERTION_SORT_CUTOFF) {  // Base case
+            insertionSort(dst, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(dst, src, from, mid);  // Recursion
+        mergeSort(dst, src, mid, to);  // Recursion
+        if (src[mid - 1] <= src[mid]) { System.arraycopy(src, from, dst, from, to - from); }  // Already in order
+        else { merge(src, from, mid, mid, to, dst, from); }
+    }  // Time complexity: O(n * log(n))  Recursion depth: O(log(n))
+
+    /** Returns the index of the first value not less than a key in a sorted range.
+        @param arr: array holding the sorted range
+        @param from: index of the first value of the range
+        @param to: index after the last value of the range
+        @param key: the key to search
+        @return: the first index in [from, to) whose value is not less than the key; or {to} if there is none
+    */
+    private static int lowerBound(int[] arr, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (arr[mid] < key) { from = mid + 1; }
+            else { to = mid; }
+        }
+        return from;
+    }  // Time complexity: O(log(n))
+
+    /** Returns the index of the first value greater than a key in a sorted range.
+        @param arr: array holding the sorted range
+        @param from: index of the first value of the range
+        @param to: index after the last value of the range
+        @param key: the key to search
+        @return: the first index in [from, to) whose value is greater than the key; or {to} if there is none
+    */
+    private static int upperBound(int[] arr, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (arr[mid] <= key) { from = mid + 1; }
+            else { to = mid; }
+        }
+        return from;
+    }  // Time complexity: O(log(n))
+
+    /** A fork/join task merging two sorted ranges, splitting large merges into independent halves */
+    private static final class Merge_Task extends RecursiveAction {
+        // Data fields
+        private static final long serialVersionUID = 1L;
+        private final int[] src, dst;  // The array holding the ranges and the array receiving the merged values
+        private final int lo1, hi1, lo2, hi2, out;  // The two ranges and the index of the first merged value
+
+        // Constructors
+
+        Merge_Task(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.out = out;
+        }
+
+        // Methods
+
+        /** Splits the larger range at its middle value and the other range at the same value, then merges
+            the two lower parts and the two upper parts in parallel.
+        */
+        @Override
+        protected void compute() {
+            if (hi1 - lo1 + hi2 - lo2 <= PARALLEL_MERGE_CUTOFF) {
+                merge(src, lo1, hi1, lo2, hi2, dst, out);
+                return;
+            }
+            int mid1, mid2;
+            if (hi1 - lo1 >= hi2 - lo2) {
+                mid1 = (lo1 + hi1) >>> 1;
+                mid2 = lowerBound(src, lo2, hi2, src[mid1]);
+            } else {
+                mid2 = (lo2 + hi2) >>> 1;
+                mid1 = upperBound(src, lo1, hi1, src[mid2]);
+            }
+            int split = out + (mid1 - lo1) + (mid2 - lo2);
+            invokeAll(new Merge_Task(src, lo1, mid1, lo2, mid2, dst, out),
+                      new Merge_Task(src, mid1, hi1, mid2, hi2, dst, split));
+        }  // Time complexity: O(n)
+    }
+
+    /** A fork/join task sorting a range of an array into another array holding the same values in that range */
+    private static final class Merge_Sort_Task extends RecursiveAction {
+        // Data fields
+        private static final long serialVersionUID = 1L;
+        private final int[] src, dst;  // The array used as scratch space and the array receiving the sorted values
+        private final int from, to;  // The range to sort
+
+        // Constructors
+
+        Merge_Sort_Task(int[] src, int[] dst, int from, int to) {
+            this.src = src;
+            this.dst = dst;
+            this.from = from;
+            this.to = to;
+        }
+
+        // Methods
+
+        /** Sorts the two halves into the scratch array in parallel, then merges them back in parallel. */
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_SORT_CUTOFF) {
+                mergeSort(src, dst, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Merge_Sort_Task(dst, src, from, mid), new Merge_Sort_Task(dst, src, mid, to));
+            if (src[mid - 1] <= src[mid]) { System.arraycopy(src, from, dst, from, to - from); }  // Already in order
+            else { new Merge_Task(src, from, mid, mid, to, dst, from).compute(); }
+        }  // Time complexity: O(n * log(n))
+    }
+
+    /** Sorts an array by a parallel merge sort on the common fork/join pool.
+        A single scratch copy of the array is allocated up front; the array and the copy swap roles at every level.
+        Ranges below a cutoff are sorted sequentially, and large merges are themselves split into parallel tasks.
+        @param arr: array to sort
+    */
+    public static void parallelMergeSort(int[] arr) {
+        if (arr.length < 2) { return; }
+        ForkJoinPool.commonPool().invoke(new Merge_Sort_Task(arr.clone(), arr, 0, arr.length));
+    }  // Time complexity: O(n * log(n))  Span: O(log(n) ^ 3)
+
+    /** Swaps two values of an array.
+        @param arr: the array
+        @param i: index of the first value
+        @param j: index of the second value
+    */
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }  // Time complexity: O(1)
+
+    /** Sorts an array made of a few runs by reversing its descending runs and merging the runs pairwise.
+        @param arr: array to sort
+        @return: {true} if the array is sorted; {false} if it has too many runs (the values are then only permuted)
+    */
+    private static boolean mergeRuns(int[] arr) {
+        int[] starts = new int[MAX_RUN_COUNT + 1];  // The index of the first value of each run, then the array length
+        int count = 0;
+        for (int k = 0; k < arr.length; count++) {
+            if (count == MAX_RUN_COUNT) { return false; }  // Too many runs: the array is not nearly sorted.
+            int start = k++;
+            starts[count] = start;
+            if (k < arr.length && arr[k - 1] > arr[k]) {  // Strictly descending run
+                while (k < arr.length && arr[k - 1] > arr[k]) { k++; }
+                for (int i = start, j = k - 1; i < j; i++, j--) { swap(arr, i, j); }
+            } else {
+                while (k < arr.length && arr[k - 1] <= arr[k]) { k++; }
+            }
+        }
+        starts[count] = arr.length;
+        int[] src = arr, dst = null;
+        while (count > 1) {  // Merge the runs in pairs, moving the values between the array and a buffer.
+            if (dst == null) { dst = new int[arr.length]; }
+            int merged = 0;
+            for (int i = 0; i < count; i += 2) {
+                int lo = starts[i], mid = starts[Math.min(i + 1, count)], hi = starts[Math.min(i + 2, count)];
+                merge(src, lo, mid, mid, hi, dst, lo);
+                starts[merged++] = lo;
+            }
+            starts[merged] = arr.length;
+            count = merged;
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != arr) { System.arraycopy(src, 0, arr, 0, arr.length); }
+        return true;
+    }  // Time complexity: O(n * log(r)) for r runs
+
+    /** Partitions a range of an array around the median of its first, middle, and last values.
+        @param arr: array to partition
+        @param from: index of the first value of the range (inclusive)
+        @param to: index after the last value of the range (exclusive, at least 3 values)
+        @return: the final index of the pivot; no value before it is greater and no value after it is less
+    */
+    private static int partition(int[] arr, int from, int to) {
+        int mid = (from + to) >>> 1, last = to - 1;
+        // Order the three samples; the first and the last then stop the scans below without bounds checks.
+        if (arr[mid] < arr[from]) { swap(arr, mid, from); }
+        if (arr[last] < arr[mid]) {
+            swap(arr, last, mid);
+            if (arr[mid] < arr[from]) { swap(arr, mid, from); }
+        }
+        swap(arr, mid, last - 1);  // Park the pivot next to the last value.
+        int pivot = arr[last - 1];
+        int i = from, j = last - 1;
+        while (true) {  // Both scans stop at values equal to the pivot, which keeps many duplicates balanced.
+            do { i++; } while (arr[i] < pivot);
+            do { j--; } while (pivot < arr[j]);
+            if (i >= j) { break; }
+            swap(arr, i, j);
+        }
+        swap(arr, i, last - 1);  // Move the pivot to its final place.
+        return i;
+    }  // Time complexity: O(n)
+
+    /** Sorts a range of an array by introsort: a quicksort that insertion sorts short ranges and
+        heap sorts a range once the partitioning gets too deep.
+        @param arr: array to sort
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+        @param depthLimit: the number of partitioning levels left before switching to heap sort
+    */
+    private static void introSort(int[] arr, int from, int to, int depthLimit) {
+        while (to - from > INSERTION_SORT_CUTOFF) {
+            if (depthLimit-- == 0) {
+                Heap_Sort.sort(arr, from, to);
+                return;
+            }
+            int p = partition(arr, from, to);
+            // Recurse into the smaller part and loop on the larger part, so the recursion stays O(log(n)) deep.
+            if (p - from < to - p) {
+                introSort(arr, from, p, depthLimit);
+                from = p + 1;
+            } else {
+                introSort(arr, p + 1, to, depthLimit);
+                to = p;
+            }
+        }
+        insertionSort(arr, from, to);
+    }  // Time complexity: O(n * log(n))  Recursion depth: O(log(n))
+
+    /** Sorts an array with the hybrid sort engine.
+        An array made of a few ascending or descending runs (nearly sorted input) is sorted by merging its runs;
+        any other array is sorted by introsort, which is O(n * log(n)) even on inputs that defeat quicksort.
+        @param arr: array to sort
+    */
+    public static void sort(int[] arr) {
+        if (arr.length < 2 || mergeRuns(arr)) { return; }
+        introSort(arr, 0, arr.length, 2 * (31 - Integer.numberOfLeadingZeros(arr.length)));
+    }  // Time complexity: O(n * log(n))
+
+    /** Sorts a range of an array by insertion sort.
+        @param arr: array to sort
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+    */
+    public static void insertionSort(long[] arr, int from, int to) {
+        for (int cur = from + 1; cur < to; cur++) {
+            long mark = arr[cur];
+            int j;
+            for (j = cur; j > from && arr[j - 1] > mark; j--) { arr[j] = arr[j - 1]; }
+            arr[j] = mark;
+        }
+    }  // Time complexity: O(n ^ 2)
+
+    /** Merges two sorted ranges of an array into another array.
+        @param src: array holding the two sorted ranges
+        @param lo1: index of the first value of the first range
+        @param hi1: index after the last value of the first range
+        @param lo2: index of the first value of the second range
+        @param hi2: index after the last value of the second range
+        @param dst: array receiving the merged values
+        @param out: index in {dst} of the first merged value
+    */
+    private static void merge(long[] src, int lo1, int hi1, int lo2, int hi2, long[] dst, int out) {
+        while (lo1 < hi1 && lo2 < hi2) { dst[out++] = src[lo1] <= src[lo2] ? src[lo1++] : src[lo2++]; }
+        System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+        System.arraycopy(src, lo2, dst, out + hi1 - lo1, hi2 - lo2);
+    }  // Time complexity: O(n)
+
+    /** Swaps two values of an array.
+        @param arr: the array
+        @param i: index of the first value
+        @param j: index of the second value
+    */
+    private static void swap(long[] arr, int i, int j) {
+        long temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }  // Time complexity: O(1)
+
+    /** Sorts an array made of a few runs by reversing its descending runs and merging the runs pairwise.
+        @param arr: array to sort
+        @return: {true} if the array is sorted; {false} if it has too many runs (the values are then only permuted)
+    */
+    private static boolean mergeRuns(long[] arr) {
+        int[] starts = new int[MAX_RUN_COUNT + 1];  // The index of the first value of each run, then the array length
+        int count = 0;
+        for (int k = 0; k < arr.length; count++) {
+            if (count == MAX_RUN_COUNT) { return false; }  // Too many runs: the array is not nearly sorted.
+            int start = k++;
+            starts[count] = start;
+            if (k < arr.length && arr[k - 1] > arr[k]) {  // Strictly descending run
+                while (k < arr.length && arr[k - 1] > arr[k]) { k++; }
+                for (int i = start, j = k - 1; i < j; i++, j--) { swap(arr, i, j); }
+            } else {
+                while (k < arr.length && arr[k - 1] <= arr[k]) { k++; }
+            }
+        }
+        starts[count] = arr.length;
+        long[] src = arr, dst = null;
+        while (count > 1) {  // Merge the runs in pairs, moving the values between the array and a buffer.
+            if (dst == null) { dst = new long[arr.length]; }
+            int merged = 0;
+            for (int i = 0; i < count; i += 2) {
+                int lo = starts[i], mid = starts[Math.min(i + 1, count)], hi = starts[Math.min(i + 2, count)];
+                merge(src, lo, mid, mid, hi, dst, lo);
+                starts[merged++] = lo;
+            }
+            starts[merged] = arr.length;
+            count = merged;
+            long[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != arr) { System.arraycopy(src, 0, arr, 0, arr.length); }
+        return true;
+    }  // Time complexity: O(n * log(r)) for r runs
+
+    /** Partitions a range of an array around the median of its first, middle, and last values.
+        @param arr: array to partition
+        @param from: index of the first value of the range (inclusive)
+        @param to: index after the last value of the range (exclusive, at least 3 values)
+        @return: the final index of the pivot; no value before it is greater and no value after it is less
+    */
+    private static int partition(long[] arr, int from, int to) {
+        int mid = (from + to) >>> 1, last = to - 1;
+        // Order the three samples; the first and the last then stop the scans below without bounds checks.
+        if (arr[mid] < arr[from]) { swap(arr, mid, from); }
+        if (arr[last] < arr[mid]) {
+            swap(arr, last, mid);
+            if (arr[mid] < arr[from]) { swap(arr, mid, from); }
+        }
+        swap(arr, mid, last - 1);  // Park the pivot next to the last value.
+        long pivot = arr[last - 1];
+        int i = from, j = last - 1;
+        while (true) {  // Both scans stop at values equal to the pivot, which keeps many duplicates balanced.
+            do { i++; } while (arr[i] < pivot);
+            do { j--; } while (pivot < arr[j]);
+            if (i >= j) { break; }
+            swap(arr, i, j);
+        }
+        swap(arr, i, last - 1);  // Move the pivot to its final place.
+        return i;
+    }  // Time complexity: O(n)
+
+    /** Sorts a range of an array by introsort: a quicksort that insertion sorts short ranges and
+        heap sorts a range once the partitioning gets too deep.
+        @param arr: array to sort
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+        @param depthLimit: the number of partitioning levels left before switching to heap sort
+    */
+    private static void introSort(long[] arr, int from, int to, int depthLimit) {
+        while (to - from > INSERTION_SORT_CUTOFF) {
+            if (depthLimit-- == 0) {
+                Heap_Sort.sort(arr, from, to);
+                return;
+            }
+            int p = partition(arr, from, to);
+            // Recurse into the smaller part and loop on the larger part, so the recursion stays O(log(n)) deep.
+            if (p - from < to - p) {
+                introSort(arr, from, p, depthLimit);
+                from = p + 1;
+            } else {
+                introSort(arr, p + 1, to, depthLimit);
+                to = p;
+            }
+        }
+        insertionSort(arr, from, to);
+    }  // Time complexity: O(n * log(n))  Recursion depth: O(log(n))
+
+    /** Sorts an array of long values with the hybrid sort engine (see sort(int[])).
+        @param arr: array to sort
+    */
+    public static void sort(long[] arr) {
+        if (arr.length < 2 || mergeRuns(arr)) { return; }
+        introSort(arr, 0, arr.length, 2 * (31 - Integer.numberOfLeadingZeros(arr.length)));
+    }  // Time complexity: O(n * log(n))
+
+    /** Sorts a range of an array by insertion sort.
+        @param arr: array to sort
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+    */
+    public static void insertionSort(double[] arr, int from, int to) {
+        for (int cur = from + 1; cur < to; cur++) {
+            double mark = arr[cur];
+            int j;
+            for (j = cur; j > from && Double.compare(arr[j - 1], mark) > 0; j--) { arr[j] = arr[j - 1]; }
+            arr[j] = mark;
+        }
+    }  // Time complexity: O(n ^ 2)
+
+    /** Merges two sorted ranges of an array into another array.
+        @param src: array holding the two sorted ranges
+        @param lo1: index of the first value of the first range
+        @param hi1: index after the last value of the first range
+        @param lo2: index of the first value of the second range
+        @param hi2: index after the last value of the second range
+        @param dst: array receiving the merged values
+        @param out: index in {dst} of the first merged value
+    */
+    private static void merge(double[] src, int lo1, int hi1, int lo2, int hi2, double[] dst, int out) {
+        while (lo1 < hi1 && lo2 < hi2) { dst[out++] = Double.compare(src[lo1], src[lo2]) <= 0 ? src[lo1++] : src[lo2++]; }
+        System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+        System.arraycopy(src, lo2, dst, out + hi1 - lo1, hi2 - lo2);
+    }  // Time complexity: O(n)
+
+    /** Swaps two values of an array.
+        @param arr: the array
+        @param i: index of the first value
+        @param j: index of the second value
+    */
+    private static void swap(double[] arr, int i, int j) {
+        double temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }  // Time complexity: O(1)
+
+    /** Sorts an array made of a few runs by reversing its descending runs and merging the runs pairwise.
+        @param arr: array to sort
+        @return: {true} if the array is sorted; {false} if it has too many runs (the values are then only permuted)
+    */
+    private static boolean mergeRuns(double[] arr) {
+        int[] starts = new int[MAX_RUN_COUNT + 1];  // The index of the first value of each run, then the array length
+        int count = 0;
+        for (int k = 0; k < arr.length; count++) {
+            if (count == MAX_RUN_COUNT) { return false; }  // Too many runs: the array is not nearly sorted.
+            int start = k++;
+            starts[count] = start;
+            if (k < arr.length && Double.compare(arr[k - 1], arr[k]) > 0) {  // Strictly descending run
+                while (k < arr.length && Double.compare(arr[k - 1], arr[k]) > 0) { k++; }
+                for (int i = start, j = k - 1; i < j; i++, j--) { swap(arr, i, j); }
+            } else {
+                while (k < arr.length && Double.compare(arr[k - 1], arr[k]) <= 0) { k++; }
+            }
+        }
+        starts[count] = arr.length;
+        double[] src = arr, dst = null;
+        while (count > 1) {  // Merge the runs in pairs, moving the values between the array and a buffer.
+            if (dst == null) { dst = new double[arr.length]; }
+            int merged = 0;
+            for (int i = 0; i < count; i += 2) {
+                int lo = starts[i], mid = starts[Math.min(i + 1, count)], hi = starts[Math.min(i + 2, count)];
+                merge(src, lo, mid, mid, hi, dst, lo);
+                starts[merged++] = lo;
+            }
+            starts[merged] = arr.length;
+            count = merged;
+            double[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != arr) { System.arraycopy(src, 0, arr, 0, arr.length); }
+        return true;
+    }  // Time complexity: O(n * log(r)) for r runs
+
+    /** Partitions a range of an array around the median of its first, middle, and last values.
+        @param arr: array to partition
+        @param from: index of the first value of the range (inclusive)
+        @param to: index after the last value of the range (exclusive, at least 3 values)
+        @return: the final index of the pivot; no value before it is greater and no value after it is less
+    */
+    private static int partition(double[] arr, int from, int to) {
+        int mid = (from + to) >>> 1, last = to - 1;
+        // Order the three samples; the first and the last then stop the scans below without bounds checks.
+        if (Double.compare(arr[mid], arr[from]) < 0) { swap(arr, mid, from); }
+        if (Double.compare(arr[last], arr[mid]) < 0) {
+            swap(arr, last, mid);
+            if (Double.compare(arr[mid], arr[from]) < 0) { swap(arr, mid, from); }
+        }
+        swap(arr, mid, last - 1);  // Park the pivot next to the last value.
+        double pivot = arr[last - 1];
+        int i = from, j = last - 1;
+        while (true) {  // Both scans stop at values equal to the pivot, which keeps many duplicates balanced.
+            do { i++; } while (Double.compare(arr[i], pivot) < 0);
+            do { j--; } while (Double.compare(pivot, arr[j]) < 0);
+            if (i >= j) { break; }
+            swap(arr, i, j);
+        }
+        swap(arr, i, last - 1);  // Move the pivot to its final place.
+        return i;
+    }  // Time complexity: O(n)
+
+    /** Sorts a range of an array by introsort: a quicksort that insertion sorts short ranges and
+        heap sorts a range once the partitioning gets too deep.
+        @param arr: array to sort
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+        @param depthLimit: the number of partitioning levels left before switching to heap sort
+    */
+    private static void introSort(double[] arr, int from, int to, int depthLimit) {
+        while (to - from > INSERTION_SORT_CUTOFF) {
+            if (depthLimit-- == 0) {
+                Heap_Sort.sort(arr, from, to);
+                return;
+            }
+            int p = partition(arr, from, to);
+            // Recurse into the smaller part and loop on the larger part, so the recursion stays O(log(n)) deep.
+            if (p - from < to - p) {
+                introSort(arr, from, p, depthLimit);
+                from = p + 1;
+            } else {
+                introSort(arr, p + 1, to, depthLimit);
+                to = p;
+            }
+        }
+        insertionSort(arr, from, to);
+    }  // Time complexity: O(n * log(n))  Recursion depth: O(log(n))
+
+    /** Sorts an array of double values with the hybrid sort engine (see sort(int[])).
+        The values are ordered as by Double.compare: -0.0 before 0.0, and NaN after positive infinity.
+        @param arr: array to sort
+    */
+    public static void sort(double[] arr) {
+        if (arr.length < 2 || mergeRuns(arr)) { return; }
+        introSort(arr, 0, arr.length, 2 * (31 - Integer.numberOfLeadingZeros(arr.length)));
+    }  // Time complexity: O(n * log(n))
+
+    /** Sorts a range of an array by insertion sort.
+        @param arr: array to sort
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+        @param comparator: the order of the values
+    */
+    public static <T> void insertionSort(T[] arr, int from, int to, Comparator<? super T> comparator) {
+        for (int cur = from + 1; cur < to; cur++) {
+            T mark = arr[cur];
+            int j;
+            for (j = cur; j > from && comparator.compare(arr[j - 1], mark) > 0; j--) { arr[j] = arr[j - 1]; }
+            arr[j] = mark;
+        }
+    }  // Time complexity: O(n ^ 2)
+
+    /** Merges two sorted ranges of an array into another array.
+        @param src: array holding the two sorted ranges
+        @param lo1: index of the first value of the first range
+        @param hi1: index after the last value of the first range
+        @param lo2: index of the first value of the second range
+        @param hi2: index after the last value of the second range
+        @param dst: array receiving the merged values
+        @param out: index in {dst} of the first merged value
+        @param comparator: the order of the values
+    */
+    private static <T> void merge(T[] src, int lo1, int hi1, int lo2, int hi2, T[] dst, int out, Comparator<? super T> comparator) {
+        while (lo1 < hi1 && lo2 < hi2) { dst[out++] = comparator.compare(src[lo1], src[lo2]) <= 0 ? src[lo1++] : src[lo2++]; }
+        System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+        System.arraycopy(src, lo2, dst, out + hi1 - lo1, hi2 - lo2);
+    }  // Time complexity: O(n)
+
+    /** Swaps two values of an array.
+        @param arr: the array
+        @param i: index of the first value
+        @param j: index of the second value
+    */
+    private static <T> void swap(T[] arr, int i, int j) {
+        T temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }  // Time complexity: O(1)
+
+    /** Sorts an array made of a few runs by reversing its descending runs and merging the runs pairwise.
+        @param arr: array to sort
+        @param comparator: the order of the values
+        @return: {true} if the array is sorted; {false} if it has too many runs (the values are then only permuted)
+    */
+    private static <T> boolean mergeRuns(T[] arr, Comparator<? super T> comparator) {
+        int[] starts = new int[MAX_RUN_COUNT + 1];  // The index of the first value of each run, then the array length
+        int count = 0;
+        for (int k = 0; k < arr.length; count++) {
+            if (count == MAX_RUN_COUNT) { return false; }  // Too many runs: the array is not nearly sorted.
+            int start = k++;
+            starts[count] = start;
+            if (k < arr.length && comparator.compare(arr[k - 1], arr[k]) > 0) {  // Strictly descending run
+                while (k < arr.length && comparator.compare(arr[k - 1], arr[k]) > 0) { k++; }
+                for (int i = start, j = k - 1; i < j; i++, j--) { swap(arr, i, j); }
+            } else {
+                while (k < arr.length && comparator.compare(arr[k - 1], arr[k]) <= 0) { k++; }
+            }
+        }
+        starts[count] = arr.length;
+        T[] src = arr, dst = null;
+        while (count > 1) {  // Merge the runs in pairs, moving the values between the array and a buffer.
+            if (dst == null) { dst = arr.clone(); }
+            int merged = 0;
+            for (int i = 0; i < count; i += 2) {
+                int lo = starts[i], mid = starts[Math.min(i + 1, count)], hi = starts[Math.min(i + 2, count)];
+                merge(src, lo, mid, mid, hi, dst, lo, comparator);
+                starts[merged++] = lo;
+            }
+            starts[merged] = arr.length;
+            count = merged;
+            T[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != arr) { System.arraycopy(src, 0, arr, 0, arr.length); }
+        return true;
+    }  // Time complexity: O(n * log(r)) for r runs
+
+    /** Partitions a range of an array around the median of its first, middle, and last values.
+        @param arr: array to partition
+        @param from: index of the first value of the range (inclusive)
+        @param to: index after the last value of the range (exclusive, at least 3 values)
+        @param comparator: the order of the values
+        @return: the final index of the pivot; no value before it is greater and no value after it is less
+    */
+    private static <T> int partition(T[] arr, int from, int to, Comparator<? super T> comparator) {
+        int mid = (from + to) >>> 1, last = to - 1;
+        // Order the three samples; the first and the last then stop the scans below without bounds checks.
+        if (comparator.compare(arr[mid], arr[from]) < 0) { swap(arr, mid, from); }
+        if (comparator.compare(arr[last], arr[mid]) < 0) {
+            swap(arr, last, mid);
+            if (comparator.compare(arr[mid], arr[from]) < 0) { swap(arr, mid, from); }
+        }
+        swap(arr, mid, last - 1);  // Park the pivot next to the last value.
+        T pivot = arr[last - 1];
+        int i = from, j = last - 1;
+        while (true) {  // Both scans stop at values equal to the pivot, which keeps many duplicates balanced.
+            do { i++; } while (comparator.compare(arr[i], pivot) < 0);
+            do { j--; } while (comparator.compare(pivot, arr[j]) < 0);
+            if (i >= j) { break; }
+            swap(arr, i, j);
+        }
+        swap(arr, i, last - 1);  // Move the pivot to its final place.
+        return i;
+    }  // Time complexity: O(n)
+
+    /** Sorts a range of an array by introsort: a quicksort that insertion sorts short ranges and
+        heap sorts a range once the partitioning gets too deep.
+        @param arr: array to sort
+        @param from: index of the first value to sort (inclusive)
+        @param to: index after the last value to sort (exclusive)
+        @param depthLimit: the number of partitioning levels left before switching to heap sort
+        @param comparator: the order of the values
+    */
+    private static <T> void introSort(T[] arr, int from, int to, int depthLimit, Comparator<? super T> comparator) {
+        while (to - from > INSERTION_SORT_CUTOFF) {
+            if (depthLimit-- == 0) {
+                Heap_Sort.sort(arr, from, to, comparator);
+                return;
+            }
+            int p = partition(arr, from, to, comparator);
+            // Recurse into the smaller part and loop on the larger part, so the recursion stays O(log(n)) deep.
+            if (p - from < to - p) {
+                introSort(arr, from, p, depthLimit, comparator);
+                from = p + 1;
+            } else {
+                introSort(arr, p + 1, to, depthLimit, comparator);
+                to = p;
+            }
+        }
+        insertionSort(arr, from, to, comparator);
+    }  // Time complexity: O(n * log(n))  Recursion depth: O(log(n))
+
+    /** Sorts an array of objects with the hybrid sort engine (see sort(int[])); the sort is not stable.
+        @param arr: array to sort
+        @param comparator: the order of the values
+        @throws NullPointerException: the comparator is null.
+    */
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        if (comparator == null) { throw new NullPointerException("Accessing null comparator"); }
+        if (arr.length < 2 || mergeRuns(arr, comparator)) { return; }
+        introSort(arr, 0, arr.length, 2 * (31 - Integer.numberOfLeadingZeros(arr.length)), comparator);
+    }  // Time complexity: O(n * log(n))
 }
\ No newline at end of file